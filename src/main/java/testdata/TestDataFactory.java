@@ -0,0 +1,241 @@
+package testdata;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ui.models.Employee;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Unique test data for parallel runs: ids are a run tag, the worker (thread) number and that worker's
+ * own sequence, so threads never share a counter and two ids can only be equal within one worker.
+ * A seeded factory derives the run tag and all random fields from the seed, so a single-threaded run
+ * generates the same data every time; UI tests get one seeded from testDataSeed through
+ * SeleniumUtils.testData(). Depends on no layer's configuration, so API tests use it as well.
+ */
+public final class TestDataFactory {
+    /** Placeholder in fixture files replaced by a fresh unique id per record */
+    public static final String ID_PLACEHOLDER = "{id}";
+
+    private static final List<String> DEPARTMENTS = List.of("Engineering", "Legal", "Compliance", "Insurance", "Automation");
+    private static final List<String> PROPERTIES = List.of("firstName", "lastName", "email", "age", "salary", "department");
+    private static final int RADIX = 36;
+    private static final int WORKER_DIGITS = 2;
+    private static final int MAX_WORKERS = RADIX * RADIX;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final long seed;
+    private final String runTag;
+    private final AtomicInteger workers = new AtomicInteger();
+    private final ThreadLocal<Worker> worker = ThreadLocal.withInitial(this::newWorker);
+
+    // Confined to one thread: no locking or CAS once the worker number is assigned
+    private static final class Worker {
+        final String prefix;
+        final SplittableRandom random;
+        long next;
+
+        Worker(String prefix, SplittableRandom random) {
+            this.prefix = prefix;
+            this.random = random;
+        }
+    }
+
+    private TestDataFactory(long seed) {
+        this.seed = seed;
+        this.runTag = pad(Long.toString(Math.floorMod(mix(seed), RADIX * RADIX * RADIX * RADIX), RADIX), 4);
+    }
+
+    /** Reproducible data: the same seed gives the same ids and fields per worker */
+    public static TestDataFactory seeded(long seed) {
+        return new TestDataFactory(seed);
+    }
+
+    /** Data unique to this factory; use get() to share one run tag across the suite */
+    public static TestDataFactory unique() {
+        return new TestDataFactory(ThreadLocalRandom.current().nextLong());
+    }
+
+    private static final class Holder {
+        private static final TestDataFactory INSTANCE = unique();
+        // Random per JVM even for seeded factories, see username()
+        private static final String USERNAME_TAG = unique().runTag;
+    }
+
+    /** Suite-wide factory, unique to this run */
+    public static TestDataFactory get() {
+        return Holder.INSTANCE;
+    }
+
+    /** Lower-case alphanumeric id, unique per factory: run tag, worker number, worker sequence */
+    public String uniqueId() {
+        Worker w = worker.get();
+        return w.prefix + Long.toString(w.next++, RADIX);
+    }
+
+    /** Employee named prefix + id with random age, salary and department */
+    public Employee employee(String prefix) {
+        String id = uniqueId();
+        SplittableRandom random = worker.get().random;
+        return Employee.builder()
+                .firstName(prefix + id)
+                .lastName("Test" + id)
+                .email(prefix.toLowerCase(Locale.ROOT) + id + "@example.com")
+                .age(String.valueOf(random.nextInt(18, 66)))
+                .salary(String.valueOf(random.nextInt(1000, 100_000)))
+                .department(DEPARTMENTS.get(random.nextInt(DEPARTMENTS.size())))
+                .build();
+    }
+
+    public List<Employee> employees(String prefix, int count) {
+        return IntStream.range(0, count).mapToObj(i -> employee(prefix)).toList();
+    }
+
+    /**
+     * BookStore user name. The account API rejects names that already exist and the accounts outlive the
+     * run, so a tag random per JVM is added even when the factory is seeded.
+     */
+    public String username() {
+        return "user_" + Holder.USERNAME_TAG + uniqueId();
+    }
+
+    /**
+     * Employees read one record at a time from a .csv (header row with Employee property names, no quoted
+     * commas) or .json (array of Employee objects) fixture; {id} in any value becomes a fresh unique id.
+     * The file stays open until the stream is closed, so use it in try-with-resources.
+     */
+    public Stream<Employee> streamEmployees(Path fixture) {
+        String name = fixture.getFileName().toString().toLowerCase(Locale.ROOT);
+        try {
+            if (name.endsWith(".csv")) return csvEmployees(fixture);
+            if (name.endsWith(".json")) return jsonEmployees(fixture);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read test data fixture " + fixture, e);
+        }
+        throw new RuntimeException("Unsupported test data fixture " + fixture + " (expected .csv or .json)");
+    }
+
+    // --------------------------------------- PRIVATE HELPERS ----------------------------------------
+
+    private Worker newWorker() {
+        int number = workers.getAndIncrement();
+        if (number >= MAX_WORKERS) {
+            throw new IllegalStateException("More than " + MAX_WORKERS + " threads requested test data ids");
+        }
+        String prefix = runTag + pad(Integer.toString(number, RADIX), WORKER_DIGITS);
+        return new Worker(prefix, new SplittableRandom(mix(seed + GOLDEN_GAMMA * (number + 1))));
+    }
+
+    private Stream<Employee> csvEmployees(Path fixture) throws IOException {
+        BufferedReader reader = Files.newBufferedReader(fixture);
+        try {
+            String header = reader.readLine();
+            if (header == null) {
+                reader.close();
+                return Stream.empty();
+            }
+            List<String> columns = Arrays.stream(header.split(",")).map(String::trim).toList();
+            columns.forEach(c -> set(new Employee(), c, ""));
+            return reader.lines().filter(line -> !line.isBlank()).map(line -> fromCsv(columns, line.split(",", -1)))
+                    .onClose(() -> close(reader));
+        } catch (IOException | RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+    }
+
+    private Employee fromCsv(List<String> columns, String[] values) {
+        String id = uniqueId();
+        Employee employee = new Employee();
+        for (int i = 0; i < columns.size(); i++) {
+            set(employee, columns.get(i), i < values.length ? values[i].trim().replace(ID_PLACEHOLDER, id) : "");
+        }
+        return employee;
+    }
+
+    private static void set(Employee employee, String property, String value) {
+        switch (property) {
+            case "firstName" -> employee.setFirstName(value);
+            case "lastName" -> employee.setLastName(value);
+            case "email" -> employee.setEmail(value);
+            case "age" -> employee.setAge(value);
+            case "salary" -> employee.setSalary(value);
+            case "department" -> employee.setDepartment(value);
+            default -> throw new RuntimeException("Unknown Employee property '" + property + "' (expected " + PROPERTIES + ")");
+        }
+    }
+
+    // MappingIterator binds one array element at a time from the streaming parser
+    private Stream<Employee> jsonEmployees(Path fixture) throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        JsonParser parser = mapper.createParser(fixture.toFile());
+        MappingIterator<Map<String, Object>> records;
+        try {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new RuntimeException("Test data fixture " + fixture + " must be a JSON array of Employee objects");
+            }
+            parser.nextToken();
+            records = mapper.readerFor(Map.class).readValues(parser);
+        } catch (IOException | RuntimeException e) {
+            parser.close();
+            throw e;
+        }
+        Iterator<Employee> employees = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return records.hasNext();
+            }
+
+            @Override
+            public Employee next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                String id = uniqueId();
+                Employee employee = new Employee();
+                records.next().forEach((property, value) ->
+                        set(employee, property, value == null ? "" : value.toString().replace(ID_PLACEHOLDER, id)));
+                return employee;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(employees, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> close(records));
+    }
+
+    private static void close(AutoCloseable resource) {
+        try {
+            resource.close();
+        } catch (Exception e) {
+            throw new RuntimeException("Cannot close test data fixture", e);
+        }
+    }
+
+    private static String pad(String digits, int width) {
+        return "0".repeat(Math.max(0, width - digits.length())) + digits;
+    }
+
+    // SplitMix64 finalizer: spreads consecutive seeds over the whole range
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
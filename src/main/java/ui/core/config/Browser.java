@@ -0,0 +1,29 @@
+package ui.core.config;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Locale;
+
+/** Browsers supported by the DriverFactory */
+public enum Browser {
+    CHROME, FIREFOX, EDGE;
+
+    private static final Logger log = LogManager.getLogger(Browser.class);
+
+    /** Lower-case name as used in TestNG parameters and driver binary names */
+    public String id() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /** Parse browser name case-insensitively; unknown values fall back to Chrome */
+    public static Browser from(String name) {
+        if (name == null || name.isBlank()) return CHROME;
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            log.warn("Unknown browser: {}, defaulting to Chrome", name);
+            return CHROME;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package ui.core.config;
+
+import org.openqa.selenium.PageLoadStrategy;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import java.util.Locale;
+
+/**
+ * Named set of browser start-up tweaks from the &lt;profiles&gt; section of selenium-config.xml.
+ * DriverFactory translates each flag into Chrome/Edge arguments or Firefox preferences.
+ *
+ * @param headless null keeps the top-level headlessDriver setting
+ */
+public record BrowserProfile(
+        String name,
+        Boolean headless,
+        PageLoadStrategy pageLoadStrategy,
+        boolean disableImages,
+        boolean disableFonts,
+        boolean disableAnimations,
+        boolean disableExtensions,
+        boolean disableGpu,
+        boolean disableBackgroundThrottling,
+        boolean disableFirstRunAndTelemetry) {
+
+    /** Used when selenium-config.xml has no profiles: browser defaults, nothing disabled */
+    public static final BrowserProfile DEFAULT =
+            new BrowserProfile("default", null, PageLoadStrategy.NORMAL, false, false, false, false, false, false, false);
+
+    /** Effective headless flag: the profile wins when it sets one */
+    public boolean isHeadless(boolean headlessDriver) {
+        return headless == null ? headlessDriver : headless;
+    }
+
+    static BrowserProfile parse(Element profile) {
+        String name = profile.getAttribute("name");
+        if (name.isBlank()) {
+            throw new RuntimeException("<profile> without a name attribute in " + SeleniumConfig.configFile);
+        }
+        String headless = text(profile, "headless");
+        String strategy = text(profile, "pageLoadStrategy");
+        return new BrowserProfile(
+                name,
+                headless == null ? null : Boolean.valueOf(headless),
+                strategy == null ? PageLoadStrategy.NORMAL : pageLoadStrategy(name, strategy),
+                flag(profile, "disableImages"),
+                flag(profile, "disableFonts"),
+                flag(profile, "disableAnimations"),
+                flag(profile, "disableExtensions"),
+                flag(profile, "disableGpu"),
+                flag(profile, "disableBackgroundThrottling"),
+                flag(profile, "disableFirstRunAndTelemetry"));
+    }
+
+    private static PageLoadStrategy pageLoadStrategy(String profile, String value) {
+        try {
+            return PageLoadStrategy.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid pageLoadStrategy '" + value + "' in profile " + profile + " (normal, eager, none)", e);
+        }
+    }
+
+    private static boolean flag(Element profile, String tag) {
+        return Boolean.parseBoolean(text(profile, tag));
+    }
+
+    private static String text(Element profile, String tag) {
+        NodeList nodes = profile.getElementsByTagName(tag);
+        if (nodes.getLength() == 0) return null;
+        String value = nodes.item(0).getTextContent().trim();
+        return value.isEmpty() ? null : value;
+    }
+}
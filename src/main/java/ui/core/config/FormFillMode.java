@@ -0,0 +1,20 @@
+package ui.core.config;
+
+import java.util.Locale;
+
+/** How page objects fill multi-field forms */
+public enum FormFillMode {
+    /** Clear and type into each field through WebDriver, checking the value after each one */
+    KEYS,
+    /** Set every value in one executeScript with native setters and input/change events; fields that fail the check are typed */
+    SCRIPT;
+
+    static FormFillMode from(String value) {
+        if (value == null) return KEYS;
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid value '" + value + "' for formFillMode in " + SeleniumConfig.configFile + " (keys, script)", e);
+        }
+    }
+}
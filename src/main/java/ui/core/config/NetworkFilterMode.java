@@ -0,0 +1,22 @@
+package ui.core.config;
+
+import java.util.Locale;
+
+/** What the network filter does with requests that match networkBlocklist */
+public enum NetworkFilterMode {
+    /** No interception */
+    OFF,
+    /** Let matching requests through and record their response sizes, used to estimate bytes saved by BLOCK */
+    AUDIT,
+    /** Abort matching requests before they leave the browser */
+    BLOCK;
+
+    static NetworkFilterMode from(String value) {
+        if (value == null) return OFF;
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid value '" + value + "' for networkFilter in " + SeleniumConfig.configFile + " (off, audit, block)", e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package ui.core.config;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+
+import java.util.List;
+
+/**
+ * Applies parallelMode and threadCount from selenium-config.xml to every suite before it runs,
+ * so the same testng.xml can run sequentially locally and in parallel on CI (-Dselenium.parallelMode=methods).
+ */
+public class ParallelSuiteListener implements IAlterSuiteListener {
+    private static final Logger log = LogManager.getLogger(ParallelSuiteListener.class);
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        SeleniumConfig config = SeleniumConfig.getInstance();
+        XmlSuite.ParallelMode mode = config.getParallelMode();
+        if (!mode.isParallel()) return;
+
+        for (XmlSuite suite : suites) {
+            suite.setParallel(mode);
+            suite.setThreadCount(config.getThreadCount());
+            log.info("Suite '{}' runs parallel={} with {} threads", suite.getName(), mode, config.getThreadCount());
+        }
+    }
+}
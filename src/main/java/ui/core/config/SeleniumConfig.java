@@ -1,86 +1,349 @@
 package ui.core.config;
 
+import org.testng.xml.XmlSuite;
 import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
 import org.xml.sax.SAXException;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.file.Files;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.function.Function;
 
+/**
+ * Immutable snapshot of selenium-config.xml.
+ * The file is parsed once; each value can be overridden by a system property (-Dselenium.browserName=chrome)
+ * or an environment variable (SELENIUM_BROWSER_NAME=chrome). Precedence: system property, environment, XML.
+ */
 public class SeleniumConfig {
-    private static SeleniumConfig instance;
+    public static final String configFile = "selenium-config.xml";
+    static final String SYSTEM_PROPERTY_PREFIX = "selenium.";
+    static final String ENVIRONMENT_PREFIX = "SELENIUM_";
 
-    private SeleniumConfig() { }
+    private final Map<String, String> xmlValues;
+    private final Function<String, String> systemProperties;
+    private final Function<String, String> environment;
+
+    private final String browserName;
+    private final Browser browser;
+    private final boolean useWebDriverManager;
+    private final String environmentURL;
+    private final String downloadPath;
+    private final Path downloadRoot;
+    private final Duration downloadStableWindow;
+    private final Duration timeout;
+    private final Duration waitPollingInterval;
+    private final Duration waitPollingMaxInterval;
+    private final double waitPollingBackoff;
+    private final Duration domQuietWindow;
+    private final FormFillMode formFillMode;
+    private final Long testDataSeed;
+    private final boolean headlessDriver;
+    private final XmlSuite.ParallelMode parallelMode;
+    private final int threadCount;
+    private final boolean driverPool;
+    private final int driverPoolMaxUses;
+    private final Duration driverPoolMaxAge;
+    private final int driverPoolPrewarm;
+    private final Path driverBinaryPath;
+    private final Path driverCacheDir;
+    private final Duration driverCacheMaxAge;
+    private final BrowserProfile browserProfile;
+    private final Path metricsDir;
+    private final boolean waitProfiling;
+    private final NetworkFilterMode networkFilter;
+    private final List<String> networkBlocklist;
+    private final List<String> networkAllowlist;
+    private final boolean localServer;
+    private final int localServerPort;
+    private final Duration localServerLatency;
+    private final URL gridUrl;
+    private final int gridMaxSessions;
+    private final Map<String, Object> gridCapabilities;
+
+    SeleniumConfig(Document document, Function<String, String> systemProperties, Function<String, String> environment) {
+        this.xmlValues = leafValues(document);
+        this.systemProperties = systemProperties;
+        this.environment = environment;
+
+        this.browserName = required("browserName");
+        this.browser = Browser.from(browserName);
+        this.useWebDriverManager = booleanValue("useWebDriverManager", true);
+        this.localServer = booleanValue("localServer", false);
+        this.localServerPort = intValue("localServerPort", 8089);
+        this.localServerLatency = Duration.ofMillis(intValue("localServerLatencyMs", 0));
+        if (localServer && (localServerPort < 1 || localServerPort > 65535)) {
+            throw new RuntimeException("Invalid value '" + localServerPort + "' for localServerPort in " + configFile);
+        }
+        // The embedded stand-in replaces the remote site for every page object
+        this.environmentURL = localServer ? "http://localhost:" + localServerPort : required("environmentURL");
+        this.downloadPath = required("downloadPath");
+        this.downloadRoot = projectPath(downloadPath);
+        this.downloadStableWindow = Duration.ofMillis(Math.max(0, intValue("downloadStableMs", 250)));
+        this.timeout = Duration.ofSeconds(intValue("timeout", 10));
+        this.waitPollingInterval = Duration.ofMillis(Math.max(1, intValue("waitPollingMs", 25)));
+        this.waitPollingMaxInterval = Duration.ofMillis(Math.max(1, intValue("waitPollingMaxMs", 500)));
+        this.waitPollingBackoff = Math.max(1.0, doubleValue("waitPollingBackoff", 1.5));
+        this.domQuietWindow = Duration.ofMillis(Math.max(1, intValue("domQuietMs", 50)));
+        this.formFillMode = FormFillMode.from(value("formFillMode"));
+        this.testDataSeed = longValue("testDataSeed");
+        this.headlessDriver = booleanValue("headlessDriver", false);
+        this.parallelMode = parallelModeValue("parallelMode");
+        this.threadCount = Math.max(1, intValue("threadCount", 1));
+        this.driverPool = booleanValue("driverPool", false);
+        this.driverPoolMaxUses = Math.max(1, intValue("driverPoolMaxUses", 20));
+        this.driverPoolMaxAge = Duration.ofSeconds(intValue("driverPoolMaxAgeSeconds", 600));
+        this.driverPoolPrewarm = Math.max(0, intValue("driverPoolPrewarm", 0));
+        this.driverBinaryPath = pathValue("driverBinaryPath", "drivers");
+        this.driverCacheDir = pathValue("driverCacheDir", Paths.get(System.getProperty("user.home"), ".cache", "demoqa-drivers").toString());
+        this.driverCacheMaxAge = Duration.ofHours(intValue("driverCacheMaxAgeHours", 168));
+        this.browserProfile = selectProfile(profiles(document), value("browserProfile"));
+        this.metricsDir = pathValue("metricsDir", "target/metrics");
+        this.waitProfiling = booleanValue("waitProfiling", false);
+        this.gridUrl = urlValue("gridUrl");
+        this.gridMaxSessions = Math.max(0, intValue("gridMaxSessions", 0));
+        this.gridCapabilities = capabilities(document);
+        this.networkFilter = NetworkFilterMode.from(value("networkFilter"));
+        this.networkBlocklist = listValue("networkBlocklist");
+        this.networkAllowlist = listValue("networkAllowlist");
+    }
+
+    // Initialization-on-demand holder: the class loader publishes the instance safely to all test threads
+    private static final class Holder {
+        private static final SeleniumConfig INSTANCE = new SeleniumConfig(load(configFile), System::getProperty, System::getenv);
+    }
 
     // Public method to get the single instance of the class
     public static SeleniumConfig getInstance() {
-        if (instance == null) {
-            instance = new SeleniumConfig();
+        return Holder.INSTANCE;
+    }
+
+    public String getBrowserName() { return browserName; }
+    public Browser getBrowser() { return browser; }
+    public boolean getHeadlessDriver() { return headlessDriver; }
+    public String getEnvironmentURL() { return environmentURL; }
+    public String getDownloadPath() { return downloadPath; }
+    public Duration getTimeout() { return timeout; }
+    /** First poll interval of explicit waits; grows by waitPollingBackoff up to waitPollingMaxMs */
+    public Duration getWaitPollingInterval() { return waitPollingInterval; }
+    public Duration getWaitPollingMaxInterval() { return waitPollingMaxInterval; }
+    public double getWaitPollingBackoff() { return waitPollingBackoff; }
+    /** How long a DOM subtree must go without mutations to count as settled */
+    public Duration getDomQuietWindow() { return domQuietWindow; }
+    /** Default way page objects fill forms; can be overridden per call */
+    public FormFillMode getFormFillMode() { return formFillMode; }
+    /** Seed for reproducible test data; empty for unique-per-run data */
+    public OptionalLong getTestDataSeed() { return testDataSeed == null ? OptionalLong.empty() : OptionalLong.of(testDataSeed); }
+    public boolean getUseWebDriverManager() { return useWebDriverManager; }
+    public XmlSuite.ParallelMode getParallelMode() { return parallelMode; }
+    public int getThreadCount() { return threadCount; }
+    public boolean getDriverPool() { return driverPool; }
+    public int getDriverPoolMaxUses() { return driverPoolMaxUses; }
+    public Duration getDriverPoolMaxAge() { return driverPoolMaxAge; }
+    public int getDriverPoolPrewarm() { return driverPoolPrewarm; }
+    public Path getDriverBinaryPath() { return driverBinaryPath; }
+    public Path getDriverCacheDir() { return driverCacheDir; }
+    public Duration getDriverCacheMaxAge() { return driverCacheMaxAge; }
+    public BrowserProfile getBrowserProfile() { return browserProfile; }
+    public Path getMetricsDir() { return metricsDir; }
+    /** Record every WaitUtils call for the end-of-suite wait report */
+    public boolean getWaitProfiling() { return waitProfiling; }
+    public NetworkFilterMode getNetworkFilter() { return networkFilter; }
+    public List<String> getNetworkBlocklist() { return networkBlocklist; }
+    public List<String> getNetworkAllowlist() { return networkAllowlist; }
+    public boolean getLocalServer() { return localServer; }
+    public int getLocalServerPort() { return localServerPort; }
+    public Duration getLocalServerLatency() { return localServerLatency; }
+
+    /** Selenium Grid / standalone server URL; null runs browsers locally */
+    public URL getGridUrl() { return gridUrl; }
+    /** Upper bound of concurrently open remote sessions; 0 leaves queueing to the grid */
+    public int getGridMaxSessions() { return gridMaxSessions; }
+    /** Extra capabilities sent with every remote session request */
+    public Map<String, Object> getGridCapabilities() { return gridCapabilities; }
+
+    /** Absolute base directory for downloads; every driver session gets its own sub-folder */
+    public Path getDownloadRoot() { return downloadRoot; }
+    /** How long a downloaded file's size must stay unchanged before it counts as complete */
+    public Duration getDownloadStableWindow() { return downloadStableWindow; }
+
+    // --------------------------------------- PRIVATE HELPERS ----------------------------------------
+
+    static Document load(String resource) {
+        try (InputStream is = SeleniumConfig.class.getClassLoader().getResourceAsStream(resource)) {
+            if (is == null) {
+                throw new RuntimeException(resource + " not found in classpath");
+            }
+            DocumentBuilder builder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
+            return builder.parse(is);
+        } catch (ParserConfigurationException | SAXException | IOException e) {
+            throw new RuntimeException("Cannot parse " + resource, e);
         }
-        return instance;
     }
 
-    // Read configuration from XML file
-    public static String configFile = "selenium-config.xml";
-    public String getBrowserName() {
-        return getConfigValue(configFile, "browserName");
+    // Collect <key>value</key> elements directly under the root element
+    private static Map<String, String> leafValues(Document document) {
+        Map<String, String> values = new HashMap<>();
+        NodeList children = document.getDocumentElement().getChildNodes();
+        for (int i = 0; i < children.getLength(); i++) {
+            Node node = children.item(i);
+            if (node instanceof Element element && !hasChildElements(element)) {
+                values.put(element.getTagName(), element.getTextContent().trim());
+            }
+        }
+        return values;
     }
-    public Boolean getHeadlessDriver() {
-        return Boolean.valueOf(getConfigValue(configFile, "headlessDriver"));
+
+    // <profiles><profile name="...">...</profile></profiles>
+    private static Map<String, BrowserProfile> profiles(Document document) {
+        Map<String, BrowserProfile> profiles = new LinkedHashMap<>();
+        NodeList nodes = document.getDocumentElement().getElementsByTagName("profile");
+        for (int i = 0; i < nodes.getLength(); i++) {
+            BrowserProfile profile = BrowserProfile.parse((Element) nodes.item(i));
+            profiles.put(profile.name(), profile);
+        }
+        return profiles;
     }
-    public String getEnvironmentURL() {
-        return getConfigValue(configFile, "environmentURL");
+
+    // <gridCapabilities><capability name="platformName">linux</capability></gridCapabilities>
+    private static Map<String, Object> capabilities(Document document) {
+        Map<String, Object> capabilities = new LinkedHashMap<>();
+        NodeList nodes = document.getDocumentElement().getElementsByTagName("capability");
+        for (int i = 0; i < nodes.getLength(); i++) {
+            Element capability = (Element) nodes.item(i);
+            String name = capability.getAttribute("name");
+            if (name.isBlank()) {
+                throw new RuntimeException("<capability> without a name attribute in " + configFile);
+            }
+            String value = capability.getTextContent().trim();
+            capabilities.put(name, value.equalsIgnoreCase("true") || value.equalsIgnoreCase("false") ? Boolean.valueOf(value) : value);
+        }
+        return Map.copyOf(capabilities);
     }
-    public String getDownloadPath() { return getConfigValue(configFile, "downloadPath"); }
-    public String getTimeout() {
-        return getConfigValue(configFile, "timeout");
+
+    private static BrowserProfile selectProfile(Map<String, BrowserProfile> profiles, String name) {
+        if (name == null) return BrowserProfile.DEFAULT;
+        BrowserProfile profile = profiles.get(name);
+        if (profile == null) {
+            throw new RuntimeException("browserProfile '" + name + "' is not defined in " + configFile + " " + profiles.keySet());
+        }
+        return profile;
     }
-    public Boolean getUseWebDriverManager() {
-        return Boolean.valueOf(getConfigValue(configFile, "useWebDriverManager"));
+
+    private static boolean hasChildElements(Element element) {
+        NodeList children = element.getChildNodes();
+        for (int i = 0; i < children.getLength(); i++) {
+            if (children.item(i) instanceof Element) return true;
+        }
+        return false;
     }
-    private static String getConfigValue(String configFile, String propertyName) {
-        try {
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            DocumentBuilder builder = factory.newDocumentBuilder();
 
-            InputStream is = SeleniumConfig.class.getClassLoader().getResourceAsStream(configFile);
-            if (is == null) {
-                throw new RuntimeException(configFile + " not found in classpath");
-            }
-            Document document = builder.parse(is);
+    // Resolve a value through the override layers: system property, environment variable, XML
+    private String value(String key) {
+        String value = systemProperties.apply(SYSTEM_PROPERTY_PREFIX + key);
+        if (value == null || value.isBlank()) value = environment.apply(environmentName(key));
+        if (value == null || value.isBlank()) value = xmlValues.get(key);
+        return (value == null || value.isBlank()) ? null : value.trim();
+    }
 
-            return document.getElementsByTagName(propertyName).item(0).getTextContent();
+    private String required(String key) {
+        String value = value(key);
+        if (value == null) {
+            throw new RuntimeException(key + " is not defined in " + configFile);
+        }
+        return value;
+    }
 
-        } catch (ParserConfigurationException | SAXException | IOException e) {
-            e.printStackTrace();
-            return null;
+    private boolean booleanValue(String key, boolean defaultValue) {
+        String value = value(key);
+        return value == null ? defaultValue : Boolean.parseBoolean(value);
+    }
+
+    private int intValue(String key, int defaultValue) {
+        String value = value(key);
+        if (value == null) return defaultValue;
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("Invalid value '" + value + "' for " + key + " in " + configFile, e);
         }
     }
 
-    public Path getDownloadDir() {
-        // Base path from XML
-        String base = getDownloadPath();
+    private double doubleValue(String key, double defaultValue) {
+        String value = value(key);
+        if (value == null) return defaultValue;
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("Invalid value '" + value + "' for " + key + " in " + configFile, e);
+        }
+    }
 
-        if (base == null || base.isBlank()) {
-            throw new RuntimeException("downloadPath is not defined in selenium-config.xml");
+    private Long longValue(String key) {
+        String value = value(key);
+        if (value == null) return null;
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("Invalid value '" + value + "' for " + key + " in " + configFile, e);
         }
+    }
 
-        Path path = Paths.get(
-                System.getProperty("user.dir"),
-                base,
-                String.valueOf(Thread.currentThread().getId())
-        );
+    // Comma or whitespace separated entries
+    private List<String> listValue(String key) {
+        String value = value(key);
+        if (value == null) return List.of();
+        return Arrays.stream(value.split("[,\\s]+")).filter(v -> !v.isEmpty()).toList();
+    }
 
+    private URL urlValue(String key) {
+        String value = value(key);
+        if (value == null) return null;
         try {
-            Files.createDirectories(path);
-        } catch (IOException e) {
-            throw new RuntimeException("Cannot create download directory: " + path, e);
+            return URI.create(value).toURL();
+        } catch (IllegalArgumentException | MalformedURLException e) {
+            throw new RuntimeException("Invalid value '" + value + "' for " + key + " in " + configFile, e);
+        }
+    }
+
+    private Path pathValue(String key, String defaultValue) {
+        String value = value(key);
+        return projectPath(value == null ? defaultValue : value);
+    }
+
+    // Absolute paths are kept, relative paths are resolved against the project root
+    private static Path projectPath(String value) {
+        return Paths.get(System.getProperty("user.dir")).resolve(value).toAbsolutePath().normalize();
+    }
+
+    private XmlSuite.ParallelMode parallelModeValue(String key) {
+        String value = value(key);
+        if (value == null) return XmlSuite.ParallelMode.NONE;
+        XmlSuite.ParallelMode mode = XmlSuite.ParallelMode.getValidParallel(value);
+        if (mode == XmlSuite.ParallelMode.NONE && !value.equalsIgnoreCase("none") && !value.equalsIgnoreCase("false")) {
+            throw new RuntimeException("Invalid value '" + value + "' for " + key + " in " + configFile + " (none, methods, classes, tests)");
         }
+        return mode;
+    }
 
-        return path.toAbsolutePath();
+    // browserName -> SELENIUM_BROWSER_NAME, environmentURL -> SELENIUM_ENVIRONMENT_URL
+    static String environmentName(String key) {
+        return ENVIRONMENT_PREFIX + key.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase(Locale.ROOT);
     }
 }
@@ -0,0 +1,175 @@
+package ui.core.driver;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import ui.core.config.Browser;
+import ui.core.config.SeleniumConfig;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Resolves the driver binary (chromedriver, geckodriver, msedgedriver) once per browser per JVM.
+ * Resolved paths are recorded in a manifest under driverCacheDir, so later runs start without a
+ * version lookup and keep working without network access. Entries older than driverCacheMaxAgeHours
+ * are re-resolved when WebDriverManager is enabled, but are still used as a fallback when that fails.
+ */
+public final class DriverBinaryResolver {
+    private static final Logger log = LogManager.getLogger(DriverBinaryResolver.class);
+    private static final String MANIFEST = "manifest.properties";
+    private static final Map<Browser, Path> resolved = new ConcurrentHashMap<>();
+
+    private DriverBinaryResolver() { }
+
+    /** Resolve the binary for the browser and register it with Selenium; cheap after the first call */
+    public static Path resolve(Browser browser) {
+        return resolved.computeIfAbsent(browser, DriverBinaryResolver::lookup);
+    }
+
+    // --------------------------------------- PRIVATE HELPERS ----------------------------------------
+
+    private static Path lookup(Browser browser) {
+        SeleniumConfig config = SeleniumConfig.getInstance();
+        Path binary;
+
+        if (!config.getUseWebDriverManager()) {
+            binary = config.getDriverBinaryPath().resolve(binaryName(browser));
+            log.info("Using local {} binary: {}", browser, binary);
+        } else {
+            binary = resolveCached(browser, config.getDriverCacheDir(), config.getDriverCacheMaxAge(), DriverBinaryResolver::download);
+        }
+
+        System.setProperty(systemProperty(browser), binary.toAbsolutePath().toString());
+        return binary;
+    }
+
+    // What a driver lookup produced: the binary and its version
+    record Resolution(Path binary, String version) { }
+
+    // The manifest entry while it is fresh, else a new resolution; a stale entry is the fallback when resolving fails
+    static Path resolveCached(Browser browser, Path cacheDir, Duration maxAge, Function<Browser, Resolution> resolver) {
+        String key = browser.id() + "." + platform();
+        Properties manifest = readManifest(cacheDir);
+        Path cached = cachedBinary(manifest, key);
+        Instant resolvedAt = cached == null ? null : resolvedAt(manifest, key);
+
+        if (resolvedAt != null && resolvedAt.plus(maxAge).isAfter(Instant.now())) {
+            log.info("Using cached {} binary: {} (version {})", browser, cached, manifest.getProperty(key + ".version"));
+            return cached;
+        }
+
+        Resolution resolution;
+        try {
+            resolution = resolver.apply(browser);
+        } catch (RuntimeException e) {
+            if (cached == null) throw e;
+            log.warn("Cannot resolve {} driver ({}), using cached binary {}", browser, e.getMessage(), cached);
+            return cached;
+        }
+        record(cacheDir, key, resolution.binary(), resolution.version());
+        log.info("Resolved {} binary: {} (version {})", browser, resolution.binary(), resolution.version());
+        return resolution.binary();
+    }
+
+    private static Resolution download(Browser browser) {
+        WebDriverManager manager = switch (browser) {
+            case CHROME -> WebDriverManager.chromedriver();
+            case FIREFOX -> WebDriverManager.firefoxdriver();
+            case EDGE -> WebDriverManager.edgedriver();
+        };
+        manager.setup();
+        return new Resolution(Path.of(manager.getDownloadedDriverPath()), manager.getDownloadedDriverVersion());
+    }
+
+    // A timestamp that does not parse (hand-edited or truncated manifest) counts as stale, never as an error
+    private static Instant resolvedAt(Properties manifest, String key) {
+        String value = manifest.getProperty(key + ".resolvedAt");
+        try {
+            return Instant.parse(value);
+        } catch (DateTimeParseException e) {
+            log.warn("Ignoring unparsable resolvedAt '{}' for {} in driver manifest", value, key);
+            return null;
+        }
+    }
+
+    private static Path cachedBinary(Properties manifest, String key) {
+        String path = manifest.getProperty(key + ".path");
+        if (path == null || manifest.getProperty(key + ".resolvedAt") == null) return null;
+        Path binary = Path.of(path);
+        return Files.isExecutable(binary) ? binary : null;
+    }
+
+    private static synchronized Properties readManifest(Path cacheDir) {
+        Properties manifest = new Properties();
+        Path file = cacheDir.resolve(MANIFEST);
+        if (Files.isRegularFile(file)) {
+            try (InputStream is = Files.newInputStream(file)) {
+                manifest.load(is);
+            } catch (IOException e) {
+                log.warn("Ignoring unreadable driver manifest {}: {}", file, e.getMessage());
+            }
+        }
+        return manifest;
+    }
+
+    // Re-read before writing so entries resolved concurrently for other browsers are kept. Forks starting
+    // together all look here first; replacing the file in one move shows them the old or the new manifest,
+    // never a truncated one that would read as a cache miss and send them all to WebDriverManager.
+    private static synchronized void record(Path cacheDir, String key, Path binary, String version) {
+        Properties manifest = readManifest(cacheDir);
+        manifest.setProperty(key + ".path", binary.toAbsolutePath().toString());
+        manifest.setProperty(key + ".version", String.valueOf(version));
+        manifest.setProperty(key + ".resolvedAt", Instant.now().toString());
+        try {
+            Files.createDirectories(cacheDir);
+            Path tmp = Files.createTempFile(cacheDir, MANIFEST, ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                manifest.store(out, "Resolved WebDriver binaries");
+            }
+            Files.move(tmp, cacheDir.resolve(MANIFEST), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Cannot write driver manifest in {}: {}", cacheDir, e.getMessage());
+        }
+    }
+
+    private static String systemProperty(Browser browser) {
+        return switch (browser) {
+            case CHROME -> "webdriver.chrome.driver";
+            case FIREFOX -> "webdriver.gecko.driver";
+            case EDGE -> "webdriver.edge.driver";
+        };
+    }
+
+    static String binaryName(Browser browser) {
+        String name = switch (browser) {
+            case CHROME -> "chromedriver";
+            case FIREFOX -> "geckodriver";
+            case EDGE -> "msedgedriver";
+        };
+        return isWindows() ? name + ".exe" : name;
+    }
+
+    // e.g. linux-amd64, mac-aarch64, windows-amd64
+    static String platform() {
+        String os = System.getProperty("os.name").toLowerCase(Locale.ROOT);
+        String family = os.contains("win") ? "windows" : os.contains("mac") ? "mac" : "linux";
+        return family + "-" + System.getProperty("os.arch").toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isWindows() {
+        return System.getProperty("os.name").toLowerCase(Locale.ROOT).contains("win");
+    }
+}
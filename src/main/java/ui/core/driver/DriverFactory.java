@@ -1,85 +1,225 @@
 package ui.core.driver;
 
+import ui.core.config.Browser;
+import ui.core.config.BrowserProfile;
+import ui.core.config.NetworkFilterMode;
 import ui.core.config.SeleniumConfig;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import ui.core.metrics.CommandCounter;
+import ui.core.metrics.Metrics;
+import ui.core.network.NetworkFilter;
+import ui.core.network.UrlRules;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.MutableCapabilities;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
 import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumOptions;
 import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeDriverService;
 import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.remote.http.ClientConfig;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class DriverFactory {
-    private static final ThreadLocal<WebDriver> driver = new ThreadLocal<>();
+    // Each test thread owns the session it is currently using
+    private static final ThreadLocal<DriverSession> session = new ThreadLocal<>();
+    private static final AtomicInteger sessionCounter = new AtomicInteger();
     private static final Logger log = LogManager.getLogger(DriverFactory.class);
-    private final String browser;
+    private final Browser browser;
     SeleniumConfig config = SeleniumConfig.getInstance();
 
     public DriverFactory(String browser) {
-        this.browser = (browser == null || browser.isEmpty()) ? config.getBrowserName() : browser.toLowerCase();
+        this.browser = (browser == null || browser.isEmpty()) ? config.getBrowser() : Browser.from(browser);
     }
 
+    /** Start a new browser and bind it to the current thread */
     public WebDriver createDriver() {
+        DriverSession created = newSession();
+        session.set(created);
+        return created.getDriver();
+    }
+
+    /**
+     * Lease a browser for the current thread: from the session pool when driverPool is enabled,
+     * otherwise a new browser. Pair with {@link #releaseDriver()}.
+     */
+    public WebDriver acquireDriver() {
+        if (!config.getDriverPool()) return createDriver();
+
+        DriverSession leased = DriverPool.acquire(browser, this::newSession);
+        session.set(leased);
+        return leased.getDriver();
+    }
+
+    // Start a new browser with its own download folder; not bound to any thread.
+    // Every start-up phase is recorded in Metrics as driver.<browser>.<phase>.
+    DriverSession newSession() {
         log.info("Initializing driver for browser: {}", browser);
+        long start = System.nanoTime();
+        boolean remote = config.getGridUrl() != null;
+        // Resolved once per browser per JVM, later calls are a map lookup; grid nodes bring their own drivers
+        if (!remote) Metrics.time(DriverPhase.BINARY_RESOLUTION.metricName(browser), () -> DriverBinaryResolver.resolve(browser));
+        Path downloadDir = newDownloadDir();
+
+        Capabilities options = Metrics.time(DriverPhase.OPTIONS.metricName(browser), () -> switch (browser) {
+            case CHROME -> setupChromeOptions(downloadDir);
+            case FIREFOX -> setupFirefoxOptions(downloadDir);
+            case EDGE -> setupEdgeOptions(downloadDir);
+        });
 
-        WebDriver createdDriver = switch (browser) {
-            case "chrome" -> new ChromeDriver(setupChromeOptions());
-            case "firefox" -> new FirefoxDriver(setupFirefoxOptions());
-            case "edge" -> new EdgeDriver(setupEdgeOptions());
-            default -> {
-                log.warn("Unknown browser: {}, defaulting to Chrome", browser);
-                yield new ChromeDriver(setupChromeOptions());
-            }
-        };
+        // Every HTTP command of the session passes through its counter
+        CommandCounter commandCounter = new CommandCounter();
+        ClientConfig clientConfig = ClientConfig.defaultConfig().withFilter(commandCounter);
+        WebDriver createdDriver = Metrics.time(DriverPhase.SESSION_CREATION.metricName(browser), () -> remote
+                ? RemoteSessions.start(config.getGridUrl(), options, config.getNetworkFilter() != NetworkFilterMode.OFF, clientConfig)
+                : switch (browser) {
+                    case CHROME -> new ChromeDriver(ChromeDriverService.createDefaultService(), (ChromeOptions) options, clientConfig);
+                    case FIREFOX -> new FirefoxDriver(GeckoDriverService.createDefaultService(), (FirefoxOptions) options, clientConfig);
+                    case EDGE -> new EdgeDriver(EdgeDriverService.createDefaultService(), (EdgeOptions) options, clientConfig);
+                });
 
-        driver.set(createdDriver);
-        driver.get().manage().window().maximize();
-        log.info("Browser {} driver initialized successfully", browser);
-        return driver.get();
+        Metrics.time(DriverPhase.MAXIMIZE.metricName(browser), () -> createdDriver.manage().window().maximize());
+        NetworkFilter networkFilter = attachNetworkFilter(createdDriver);
+        Duration startup = Duration.ofNanos(System.nanoTime() - start);
+        Metrics.record(DriverPhase.TOTAL.metricName(browser), startup);
+        log.info("Browser {} driver initialized successfully in {} ms", browser, startup.toMillis());
+        DriverSession created = new DriverSession(browser, createdDriver, downloadDir, startup);
+        created.setNetworkFilter(networkFilter);
+        created.setRemote(remote);
+        created.setCommandCounter(commandCounter);
+        return created;
     }
 
     public static WebDriver getDriver() {
-        return driver.get();
+        DriverSession current = session.get();
+        return current == null ? null : current.getDriver();
+    }
+
+    /** Navigations made by the current thread's browser through {@link #navigate}; 0 without one */
+    public static int getNavigationCount() {
+        DriverSession current = session.get();
+        return current == null ? 0 : current.getNavigationCount();
+    }
+
+    /** WebDriver commands (HTTP round trips) sent so far by the current thread's browser; 0 without one */
+    public static long getCommandCount() {
+        DriverSession current = session.get();
+        return current == null ? 0 : current.getCommandCount();
+    }
+
+    /** Download folder of the browser bound to the current thread */
+    public static Path getDownloadDir() {
+        DriverSession current = session.get();
+        if (current == null) {
+            throw new IllegalStateException("No driver session is bound to thread " + Thread.currentThread().getName());
+        }
+        return current.getDownloadDir();
+    }
+
+    /**
+     * Navigate the current thread's browser; the first navigation of each session is timed as a start-up phase.
+     * With networkFilter enabled, blocked requests are reported per navigated page.
+     */
+    public static void navigate(String url) {
+        DriverSession current = session.get();
+        if (current == null) throw new IllegalStateException("No driver session is bound to thread " + Thread.currentThread().getName());
+        if (current.getNetworkFilter() != null) current.getNetworkFilter().beginPage(url);
+        if (current.claimFirstNavigation()) {
+            Metrics.time(DriverPhase.FIRST_NAVIGATION.metricName(current.getBrowser()), () -> current.getDriver().get(url));
+        } else {
+            current.getDriver().get(url);
+        }
+    }
+
+    /**
+     * Copy finished downloads of the current thread's remote browser into dir, when dir is its download folder.
+     * No-op for local browsers, which download straight into dir.
+     */
+    public static void syncRemoteDownloads(Path dir) {
+        DriverSession current = session.get();
+        if (current == null || !current.isRemote() || !current.getDownloadDir().equals(dir)) return;
+        RemoteSessions.pullDownloads(current.getDriver(), dir);
     }
 
     public static void quitDriver() {
-        if (driver.get() != null) {
-            driver.get().quit();
-            driver.remove();
+        DriverSession current = session.get();
+        if (current != null) {
+            session.remove();
+            current.quit();
             log.info("Driver closed successfully.");
         }
     }
 
+    /** Give the current thread's browser back to the pool, or quit it when pooling is disabled */
+    public static void releaseDriver() {
+        DriverSession current = session.get();
+        if (current == null) return;
+        if (!SeleniumConfig.getInstance().getDriverPool()) {
+            quitDriver();
+            return;
+        }
+        session.remove();
+        if (current.getNetworkFilter() != null) current.getNetworkFilter().finishPage();
+        DriverPool.release(current);
+    }
+
     // --------------------------------------- PRIVATE HELPERS ----------------------------------------
 
-    Path downloadDir = config.getDownloadDir();
-    private ChromeOptions setupChromeOptions() {
+    // Session-scoped folder, so parallel or pooled browsers never share downloads
+    private Path newDownloadDir() {
+        Path path = config.getDownloadRoot().resolve("session-" + sessionCounter.incrementAndGet());
+        try {
+            Files.createDirectories(path);
+        } catch (IOException e) {
+            throw new RuntimeException("Cannot create download directory: " + path, e);
+        }
+        return path;
+    }
+
+    // Blocklist/allowlist interception via BiDi (Firefox) or CDP (Chrome, Edge); null when networkFilter is off
+    private NetworkFilter attachNetworkFilter(WebDriver driver) {
+        if (config.getNetworkFilter() == NetworkFilterMode.OFF) return null;
+        UrlRules rules = new UrlRules(config.getNetworkBlocklist(), config.getNetworkAllowlist());
+        if (rules.isEmpty()) {
+            log.warn("networkFilter is {} but networkBlocklist is empty, traffic is not intercepted", config.getNetworkFilter());
+            return null;
+        }
+        return NetworkFilter.attach(browser, driver, rules, config.getNetworkFilter());
+    }
+
+    private ChromeOptions setupChromeOptions(Path downloadDir) {
         ChromeOptions options = new ChromeOptions();
         Map<String, Object> prefs = new HashMap<>();
-        prefs.put("download.default_directory", downloadDir.toAbsolutePath().toString());
+        // On a grid node the managed-downloads folder is used instead
+        if (config.getGridUrl() == null) prefs.put("download.default_directory", downloadDir.toAbsolutePath().toString());
         prefs.put("download.prompt_for_download", false);
         prefs.put("profile.default_content_settings.popups", 0);
         prefs.put("safebrowsing.enabled", true);
 
-        options.setExperimentalOption("prefs", prefs);
-        setupDriver(options);
+        setupDriver(options, prefs);
         return options;
     }
 
-    private FirefoxOptions setupFirefoxOptions() {
+    private FirefoxOptions setupFirefoxOptions(Path downloadDir) {
         FirefoxOptions options = new FirefoxOptions();
         options.addArguments("--width=1920", "--height=1080");
         // Disable notifications
         options.addPreference("dom.webnotifications.enabled", false);
         // Download prefs
         options.addPreference("browser.download.folderList", 2); // 2 = custom dir
-        options.addPreference("browser.download.dir", downloadDir.toAbsolutePath().toString());
+        if (config.getGridUrl() == null) options.addPreference("browser.download.dir", downloadDir.toAbsolutePath().toString());
         options.addPreference("browser.download.useDownloadDir", true);
         // MIME types that should be downloaded automatically
         options.addPreference(
@@ -89,53 +229,116 @@ public class DriverFactory {
 
         options.addPreference("browser.download.manager.showWhenStarting", false);
         options.addPreference("pdfjs.disabled", true); // disable built-in PDF viewer
+        // The network filter talks to Firefox over WebDriver BiDi
+        if (config.getNetworkFilter() != NetworkFilterMode.OFF) options.enableBiDi();
 
         setupDriver(options);
         return options;
     }
 
-    private EdgeOptions setupEdgeOptions() {
+    private EdgeOptions setupEdgeOptions(Path downloadDir) {
         EdgeOptions options = new EdgeOptions();
         Map<String, Object> prefs = new HashMap<>();
-        prefs.put("download.default_directory", downloadDir.toAbsolutePath().toString());
+        if (config.getGridUrl() == null) prefs.put("download.default_directory", downloadDir.toAbsolutePath().toString());
         prefs.put("download.prompt_for_download", false);
         prefs.put("profile.default_content_settings.popups", 0);
         prefs.put("safebrowsing.enabled", true);
 
-        options.setExperimentalOption("prefs", prefs);
         options.addArguments("start-maximized", "--disable-notifications");
-        setupDriver(options);
+        setupDriver(options, prefs);
         return options;
     }
 
-    // Centralized method for all options and headless setup.
-    private <T> void setupDriver(T options) {
-        // Setup WebDriverManager or system driver
-        if (options instanceof ChromeOptions) setupDriverBinary("chromedriver", WebDriverManager.chromedriver());
-        else if (options instanceof FirefoxOptions) setupDriverBinary("geckodriver", WebDriverManager.firefoxdriver());
-        else if (options instanceof EdgeOptions) setupDriverBinary("msedgedriver", WebDriverManager.edgedriver());
+    // Centralized method for Chrome/Edge profile, headless and preference setup.
+    private void setupDriver(ChromiumOptions<?> options, Map<String, Object> prefs) {
+        applyProfile(options, prefs);
+        configureHeadless(options);
+        options.setExperimentalOption("prefs", prefs);
+        configureGrid(options);
+    }
 
-        // Headless configuration
+    // Centralized method for Firefox profile and headless setup.
+    private void setupDriver(FirefoxOptions options) {
+        applyProfile(options);
         configureHeadless(options);
+        configureGrid(options);
     }
 
-    private void setupDriverBinary(String systemProperty, WebDriverManager manager) {
-        if (config.getUseWebDriverManager()) {
-            manager.setup();
-        } else {
-            System.setProperty("webdriver." + systemProperty + ".driver", "src/main/resources/" + systemProperty + ".exe");
+    private void applyProfile(ChromiumOptions<?> options, Map<String, Object> prefs) {
+        BrowserProfile profile = config.getBrowserProfile();
+        options.setPageLoadStrategy(profile.pageLoadStrategy());
+        if (profile.disableImages()) {
+            prefs.put("profile.managed_default_content_settings.images", 2);
+            options.addArguments("--blink-settings=imagesEnabled=false");
         }
+        if (profile.disableFonts()) options.addArguments("--disable-remote-fonts");
+        if (profile.disableAnimations()) options.addArguments("--force-prefers-reduced-motion", "--disable-smooth-scrolling");
+        if (profile.disableExtensions()) {
+            options.addArguments("--disable-extensions", "--disable-component-extensions-with-background-pages");
+        }
+        if (profile.disableGpu()) options.addArguments("--disable-gpu");
+        if (profile.disableBackgroundThrottling()) {
+            options.addArguments("--disable-background-timer-throttling", "--disable-backgrounding-occluded-windows",
+                    "--disable-renderer-backgrounding");
+        }
+        if (profile.disableFirstRunAndTelemetry()) {
+            options.addArguments("--no-first-run", "--no-default-browser-check", "--disable-default-apps",
+                    "--disable-sync", "--disable-background-networking", "--disable-component-update",
+                    "--disable-domain-reliability", "--metrics-recording-only",
+                    "--disable-features=Translate,OptimizationHints,MediaRouter");
+        }
+        log.info("Browser {} uses profile '{}'", browser, profile.name());
+    }
+
+    private void applyProfile(FirefoxOptions options) {
+        BrowserProfile profile = config.getBrowserProfile();
+        options.setPageLoadStrategy(profile.pageLoadStrategy());
+        if (profile.disableImages()) options.addPreference("permissions.default.image", 2);
+        if (profile.disableFonts()) {
+            options.addPreference("browser.display.use_document_fonts", 0);
+            options.addPreference("gfx.downloadable_fonts.enabled", false);
+        }
+        if (profile.disableAnimations()) {
+            options.addPreference("ui.prefersReducedMotion", 1);
+            options.addPreference("toolkit.cosmeticAnimations.enabled", false);
+        }
+        if (profile.disableExtensions()) {
+            options.addPreference("extensions.update.enabled", false);
+            options.addPreference("extensions.getAddons.cache.enabled", false);
+        }
+        if (profile.disableGpu()) options.addPreference("layers.acceleration.disabled", true);
+        if (profile.disableBackgroundThrottling()) {
+            options.addPreference("dom.timeout.enable_budget_timer_throttling", false);
+            options.addPreference("dom.min_background_timeout_value", 4);
+        }
+        if (profile.disableFirstRunAndTelemetry()) {
+            options.addPreference("browser.shell.checkDefaultBrowser", false);
+            options.addPreference("browser.startup.homepage_override.mstone", "ignore");
+            options.addPreference("startup.homepage_welcome_url", "about:blank");
+            options.addPreference("datareporting.policy.dataSubmissionEnabled", false);
+            options.addPreference("datareporting.healthreport.uploadEnabled", false);
+            options.addPreference("toolkit.telemetry.enabled", false);
+            options.addPreference("toolkit.telemetry.unified", false);
+            options.addPreference("app.normandy.enabled", false);
+            options.addPreference("browser.newtabpage.enabled", false);
+        }
+        log.info("Browser {} uses profile '{}'", browser, profile.name());
+    }
+
+    // Managed downloads keep files on the node until syncRemoteDownloads pulls them back
+    private void configureGrid(MutableCapabilities options) {
+        if (config.getGridUrl() == null) return;
+        options.setCapability("se:downloadsEnabled", true);
+        config.getGridCapabilities().forEach(options::setCapability);
     }
 
     private void configureHeadless(Object options) {
-        if (!config.getHeadlessDriver()) return;
+        if (!config.getBrowserProfile().isHeadless(config.getHeadlessDriver())) return;
 
-        if (options instanceof ChromeOptions chrome) {
-            chrome.addArguments("--headless", "--window-size=1920,1080");
+        if (options instanceof ChromiumOptions<?> chromium) {
+            chromium.addArguments("--headless=new", "--window-size=1920,1080");
         } else if (options instanceof FirefoxOptions firefox) {
             firefox.addArguments("--headless", "--width=1920", "--height=1080");
-        } else if (options instanceof EdgeOptions edge) {
-            edge.addArguments("--headless", "--window-size=1920,1080");
         }
 
         log.info("Browser {} will run in headless mode", browser);
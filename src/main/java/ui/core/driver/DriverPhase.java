@@ -0,0 +1,24 @@
+package ui.core.driver;
+
+import ui.core.config.Browser;
+
+/** Phases of browser start-up timed by DriverFactory; metric names are driver.&lt;browser&gt;.&lt;phase&gt; */
+public enum DriverPhase {
+    BINARY_RESOLUTION("binary"),
+    OPTIONS("options"),
+    SESSION_CREATION("session"),
+    MAXIMIZE("maximize"),
+    FIRST_NAVIGATION("firstNavigation"),
+    TOTAL("total");
+
+    private final String key;
+
+    DriverPhase(String key) {
+        this.key = key;
+    }
+
+    /** Timer name in {@link ui.core.metrics.Metrics}, e.g. driver.firefox.session */
+    public String metricName(Browser browser) {
+        return "driver." + browser.id() + "." + key;
+    }
+}
@@ -0,0 +1,175 @@
+package ui.core.driver;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import ui.core.config.Browser;
+import ui.core.config.SeleniumConfig;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Idle browser sessions shared by all test threads, one stack per browser type.
+ * A session is leased to one test at a time; on return its cookies, storage, extra windows and
+ * downloads are reset. Sessions are recycled after driverPoolMaxUses tests or driverPoolMaxAgeSeconds.
+ * Browsers still starting in the background (see DriverPrewarmer) are handed out before new ones are launched.
+ */
+class DriverPool {
+    private static final Logger log = LogManager.getLogger(DriverPool.class);
+    private static final Map<Browser, Deque<DriverSession>> idle = new ConcurrentHashMap<>();
+    private static final Map<Browser, Deque<CompletableFuture<DriverSession>>> warming = new ConcurrentHashMap<>();
+    private static final AtomicLong hiddenStartupNanos = new AtomicLong();
+    private static final AtomicInteger prewarmedLeases = new AtomicInteger();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(DriverPool::quitAll, "driver-pool-shutdown"));
+    }
+
+    private DriverPool() { }
+
+    /** Take a healthy idle session for the browser, or start a new one */
+    static DriverSession acquire(Browser browser, Supplier<DriverSession> starter) {
+        DriverSession session;
+        while ((session = stack(browser).pollFirst()) != null) {
+            if (isReusable(session) && isHealthy(session)) {
+                log.info("Reusing pooled {} session (uses: {}, age: {}s)", browser, session.getUses(), session.getAge().toSeconds());
+                return session;
+            }
+            quit(session);
+        }
+
+        CompletableFuture<DriverSession> pending;
+        while ((pending = queue(browser).pollFirst()) != null) {
+            long waitStart = System.nanoTime();
+            try {
+                DriverSession warmed = pending.join();
+                long waited = System.nanoTime() - waitStart;
+                long hidden = Math.max(0, warmed.getStartupTime().toNanos() - waited);
+                hiddenStartupNanos.addAndGet(hidden);
+                prewarmedLeases.incrementAndGet();
+                log.info("Leased prewarmed {} session, {} ms of startup hidden", browser, Duration.ofNanos(hidden).toMillis());
+                return warmed;
+            } catch (CompletionException e) {
+                log.warn("Prewarmed {} session failed to start: {}", browser, e.getCause().getMessage());
+            }
+        }
+        return starter.get();
+    }
+
+    /** Register a browser that is being started in the background */
+    static void offerWarming(Browser browser, CompletableFuture<DriverSession> session) {
+        queue(browser).offerLast(session);
+    }
+
+    /** Startup time tests did not have to wait for because the browser was prewarmed */
+    static Duration getHiddenStartupTime() {
+        return Duration.ofNanos(hiddenStartupNanos.get());
+    }
+
+    static int getPrewarmedLeases() {
+        return prewarmedLeases.get();
+    }
+
+    /** Return a session after a test; it is reset for the next test or quit when worn out */
+    static void release(DriverSession session) {
+        session.markUsed();
+        if (!isReusable(session)) {
+            log.info("Recycling {} session after {} uses", session.getBrowser(), session.getUses());
+            quit(session);
+            return;
+        }
+        try {
+            reset(session);
+            stack(session.getBrowser()).offerFirst(session);
+        } catch (WebDriverException | IOException e) {
+            log.warn("Could not reset {} session, discarding it: {}", session.getBrowser(), e.getMessage());
+            quit(session);
+        }
+    }
+
+    static void quitAll() {
+        idle.values().forEach(stack -> {
+            DriverSession session;
+            while ((session = stack.pollFirst()) != null) quit(session);
+        });
+        warming.values().forEach(queue -> {
+            CompletableFuture<DriverSession> pending;
+            while ((pending = queue.pollFirst()) != null) {
+                try {
+                    quit(pending.join());
+                } catch (CompletionException ignored) { }
+            }
+        });
+    }
+
+    // --------------------------------------- PRIVATE HELPERS ----------------------------------------
+
+    private static Deque<DriverSession> stack(Browser browser) {
+        return idle.computeIfAbsent(browser, b -> new ConcurrentLinkedDeque<>());
+    }
+
+    private static Deque<CompletableFuture<DriverSession>> queue(Browser browser) {
+        return warming.computeIfAbsent(browser, b -> new ConcurrentLinkedDeque<>());
+    }
+
+    private static boolean isReusable(DriverSession session) {
+        SeleniumConfig config = SeleniumConfig.getInstance();
+        return session.getUses() < config.getDriverPoolMaxUses()
+                && session.getAge().compareTo(config.getDriverPoolMaxAge()) < 0;
+    }
+
+    // Cheapest round trip that proves the browser and its driver process still answer
+    private static boolean isHealthy(DriverSession session) {
+        try {
+            session.getDriver().getWindowHandle();
+            return true;
+        } catch (WebDriverException e) {
+            log.warn("Pooled {} session failed health check: {}", session.getBrowser(), e.getMessage());
+            return false;
+        }
+    }
+
+    // Cookies and storage are cleared for the origin the test ended on; all UI tests share environmentURL
+    private static void reset(DriverSession session) throws IOException {
+        WebDriver driver = session.getDriver();
+        for (String handle : driver.getWindowHandles()) {
+            if (!handle.equals(session.getPrimaryWindow())) {
+                driver.switchTo().window(handle).close();
+            }
+        }
+        driver.switchTo().window(session.getPrimaryWindow());
+
+        driver.manage().deleteAllCookies();
+        ((JavascriptExecutor) driver).executeScript(
+                "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) { }");
+        driver.get("about:blank");
+        if (session.isRemote()) RemoteSessions.deleteDownloads(driver);
+
+        try (DirectoryStream<Path> ds = Files.newDirectoryStream(session.getDownloadDir())) {
+            for (Path p : ds) Files.deleteIfExists(p);
+        }
+    }
+
+    private static void quit(DriverSession session) {
+        try {
+            session.quit();
+        } catch (WebDriverException e) {
+            log.warn("Error while quitting {} session: {}", session.getBrowser(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package ui.core.driver;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import ui.core.config.Browser;
+import ui.core.config.SeleniumConfig;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Starts driverPoolPrewarm browsers concurrently when the suite begins, while TestNG is still
+ * discovering tests and running @BeforeSuite/@BeforeClass work. The first UI test on each worker
+ * then leases a browser that is already up instead of waiting for a cold start.
+ */
+public class DriverPrewarmer implements ISuiteListener {
+    private static final Logger log = LogManager.getLogger(DriverPrewarmer.class);
+    private final List<CompletableFuture<DriverSession>> started = new ArrayList<>();
+    private long suiteStartNanos;
+
+    @Override
+    public void onStart(ISuite suite) {
+        SeleniumConfig config = SeleniumConfig.getInstance();
+        int count = config.getDriverPoolPrewarm();
+        if (count == 0) return;
+        if (!config.getDriverPool()) {
+            log.warn("driverPoolPrewarm={} ignored because driverPool is disabled", count);
+            return;
+        }
+
+        suiteStartNanos = System.nanoTime();
+        Browser browser = config.getBrowser();
+        ExecutorService executor = Executors.newFixedThreadPool(count, daemonThreads());
+        for (int i = 0; i < count; i++) {
+            CompletableFuture<DriverSession> session =
+                    CompletableFuture.supplyAsync(() -> new DriverFactory(browser.id()).newSession(), executor);
+            started.add(session);
+            DriverPool.offerWarming(browser, session);
+        }
+        // Worker threads exit once every browser has started
+        executor.shutdown();
+        log.info("Prewarming {} {} sessions for suite '{}'", count, browser, suite.getName());
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (started.isEmpty()) return;
+
+        long ready = started.stream().filter(f -> f.isDone() && !f.isCompletedExceptionally()).count();
+        Duration startup = started.stream()
+                .filter(f -> f.isDone() && !f.isCompletedExceptionally())
+                .map(f -> f.join().getStartupTime())
+                .reduce(Duration.ZERO, Duration::plus);
+
+        log.info("Prewarm report for suite '{}': {}/{} sessions started ({} ms browser startup in background), "
+                        + "{} leased by tests, {} ms of startup hidden from tests, suite wall-clock {} ms",
+                suite.getName(), ready, started.size(), startup.toMillis(),
+                DriverPool.getPrewarmedLeases(), DriverPool.getHiddenStartupTime().toMillis(),
+                Duration.ofNanos(System.nanoTime() - suiteStartNanos).toMillis());
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "driver-prewarm-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,83 @@
+package ui.core.driver;
+
+import org.openqa.selenium.WebDriver;
+import ui.core.config.Browser;
+import ui.core.metrics.CommandCounter;
+import ui.core.network.NetworkFilter;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/** A live browser together with the download folder it was configured with */
+public class DriverSession {
+    private final Browser browser;
+    private final WebDriver driver;
+    private final Path downloadDir;
+    private final String primaryWindow;
+    private final Duration startupTime;
+    private final long createdNanos = System.nanoTime();
+    private int uses;
+    private int navigations;
+    private NetworkFilter networkFilter;
+    private boolean remote;
+    private CommandCounter commandCounter = new CommandCounter();
+
+    DriverSession(Browser browser, WebDriver driver, Path downloadDir, Duration startupTime) {
+        this.browser = browser;
+        this.driver = driver;
+        this.downloadDir = downloadDir;
+        this.startupTime = startupTime;
+        this.primaryWindow = driver.getWindowHandle();
+    }
+
+    public Browser getBrowser() { return browser; }
+    public WebDriver getDriver() { return driver; }
+    public Path getDownloadDir() { return downloadDir; }
+
+    /** Window that was open when the browser started; the pool closes every other window on reset */
+    String getPrimaryWindow() { return primaryWindow; }
+
+    /** Wall-clock time it took to start this browser */
+    public Duration getStartupTime() { return startupTime; }
+
+    /** Number of tests that have used this session */
+    int getUses() { return uses; }
+
+    // Only the leasing thread touches the counter, hand-over goes through the pool's concurrent deque
+    void markUsed() { uses++; }
+
+    // Counts a navigation; true only for the first one of the session, which is timed as a start-up phase
+    boolean claimFirstNavigation() {
+        return navigations++ == 0;
+    }
+
+    /** Navigations made through DriverFactory.navigate; page objects drop cached elements when it changes */
+    public int getNavigationCount() { return navigations; }
+
+    /** Filter intercepting this browser's traffic, null when networkFilter is off */
+    public NetworkFilter getNetworkFilter() { return networkFilter; }
+
+    void setNetworkFilter(NetworkFilter networkFilter) { this.networkFilter = networkFilter; }
+
+    /** WebDriver commands sent by this session so far */
+    public long getCommandCount() { return commandCounter.get(); }
+
+    void setCommandCounter(CommandCounter commandCounter) { this.commandCounter = commandCounter; }
+
+    /** True when the browser runs on a Selenium Grid node, see {@link RemoteSessions} */
+    public boolean isRemote() { return remote; }
+
+    void setRemote(boolean remote) { this.remote = remote; }
+
+    // The filter is closed first: it reports the last page and detaches from the browser connection
+    void quit() {
+        try {
+            if (networkFilter != null) networkFilter.close();
+            driver.quit();
+        } finally {
+            if (remote) RemoteSessions.release();
+        }
+    }
+
+    Duration getAge() { return Duration.ofNanos(System.nanoTime() - createdNanos); }
+}
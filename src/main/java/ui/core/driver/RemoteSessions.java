@@ -0,0 +1,84 @@
+package ui.core.driver;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasDownloads;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.LocalFileDetector;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.http.ClientConfig;
+import ui.core.config.SeleniumConfig;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Sessions on a Selenium Grid or standalone server. At most gridMaxSessions are open at once, so one
+ * controller can fan out to many nodes without overrunning the grid's session queue.
+ * Uploads go through LocalFileDetector; downloads are kept on the node (managed downloads) and pulled back on demand.
+ */
+final class RemoteSessions {
+    private static final Logger log = LogManager.getLogger(RemoteSessions.class);
+    private static final int maxSessions = SeleniumConfig.getInstance().getGridMaxSessions();
+    private static final Semaphore slots = new Semaphore(maxSessions > 0 ? maxSessions : Integer.MAX_VALUE, true);
+
+    private RemoteSessions() { }
+
+    /** Open a session, waiting for a free slot first; augmented when CDP/BiDi access is needed */
+    static RemoteWebDriver start(URL grid, Capabilities options, boolean augment) {
+        return start(grid, options, augment, ClientConfig.defaultConfig());
+    }
+
+    /** As above, with a client config carrying e.g. the session's CommandCounter filter */
+    static RemoteWebDriver start(URL grid, Capabilities options, boolean augment, ClientConfig clientConfig) {
+        try {
+            slots.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a free grid session slot", e);
+        }
+        try {
+            RemoteWebDriver driver = new RemoteWebDriver(new HttpCommandExecutor(clientConfig.baseUrl(grid)), options);
+            if (augment) driver = (RemoteWebDriver) new Augmenter().augment(driver);
+            // Paths passed to sendKeys on file inputs are uploaded to the node first
+            driver.setFileDetector(new LocalFileDetector());
+            log.info("Remote {} session {} started on {}", options.getBrowserName(), driver.getSessionId(), grid);
+            return driver;
+        } catch (RuntimeException e) {
+            slots.release();
+            throw e;
+        }
+    }
+
+    /** Give back the slot of a session that has been quit */
+    static void release() {
+        slots.release();
+    }
+
+    /** Copy finished downloads from the node into dir; files already present are skipped */
+    static void pullDownloads(WebDriver driver, Path dir) {
+        HasDownloads downloads = (HasDownloads) driver;
+        for (String name : downloads.getDownloadableFiles()) {
+            // In-progress Chrome/Firefox downloads
+            if (name.endsWith(".crdownload") || name.endsWith(".part")) continue;
+            if (Files.exists(dir.resolve(name))) continue;
+            try {
+                downloads.downloadFile(name, dir);
+                log.info("Pulled remote download {} into {}", name, dir);
+            } catch (IOException e) {
+                log.warn("Cannot pull remote download {}: {}", name, e.getMessage());
+            }
+        }
+    }
+
+    /** Remove the session's downloads on the node, used when a pooled session is reset */
+    static void deleteDownloads(WebDriver driver) {
+        ((HasDownloads) driver).deleteDownloadableFiles();
+    }
+}
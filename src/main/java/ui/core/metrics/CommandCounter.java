@@ -0,0 +1,26 @@
+package ui.core.metrics;
+
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpHandler;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts WebDriver commands, i.e. HTTP round trips between the test and the driver (or grid).
+ * Installed as a client filter on every session DriverFactory creates, see DriverFactory.getCommandCount().
+ */
+public class CommandCounter implements Filter {
+    private final AtomicLong commands = new AtomicLong();
+
+    @Override
+    public HttpHandler apply(HttpHandler next) {
+        return request -> {
+            commands.incrementAndGet();
+            return next.execute(request);
+        };
+    }
+
+    public long get() {
+        return commands.get();
+    }
+}
@@ -0,0 +1,43 @@
+package ui.core.metrics;
+
+import java.util.Arrays;
+
+/** Thread-safe recorder of plain counts (e.g. polls per wait) with nearest-rank percentiles */
+public class Distribution {
+    private final String name;
+    private long[] samples = new long[64];
+    private int count;
+
+    Distribution(String name) {
+        this.name = name;
+    }
+
+    public String getName() { return name; }
+
+    public synchronized void record(long value) {
+        if (count == samples.length) samples = Arrays.copyOf(samples, count * 2);
+        samples[count++] = value;
+    }
+
+    /** Immutable view of the samples recorded so far */
+    public synchronized Summary summary() {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        return new Summary(name, sorted);
+    }
+
+    public record Summary(String name, long[] sortedValues) {
+        public int count() { return sortedValues.length; }
+
+        public long min() { return count() == 0 ? 0 : sortedValues[0]; }
+
+        public long max() { return count() == 0 ? 0 : sortedValues[count() - 1]; }
+
+        public double mean() { return count() == 0 ? 0 : (double) Arrays.stream(sortedValues).sum() / count(); }
+
+        /** Nearest-rank percentile, e.g. percentile(95) */
+        public long percentile(double percentile) {
+            return count() == 0 ? 0 : Timer.nearestRank(sortedValues, percentile);
+        }
+    }
+}
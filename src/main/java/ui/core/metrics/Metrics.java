@@ -0,0 +1,66 @@
+package ui.core.metrics;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * JVM-wide registry of named timers, e.g. "driver.firefox.session", and of distributions of counts,
+ * e.g. "poll.row.attempts". MetricsReporter writes every one with its p50/p95/p99 at the end of the suite.
+ */
+public final class Metrics {
+    private static final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private static final Map<String, Distribution> distributions = new ConcurrentHashMap<>();
+
+    private Metrics() { }
+
+    public static Timer timer(String name) {
+        return timers.computeIfAbsent(name, Timer::new);
+    }
+
+    public static Distribution distribution(String name) {
+        return distributions.computeIfAbsent(name, Distribution::new);
+    }
+
+    public static void record(String name, Duration duration) {
+        timer(name).record(duration);
+    }
+
+    /** Run the action and record how long it took, also when it throws */
+    public static <T> T time(String name, Supplier<T> action) {
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            timer(name).recordNanos(System.nanoTime() - start);
+        }
+    }
+
+    public static void time(String name, Runnable action) {
+        time(name, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /** Summaries of all timers sorted by name */
+    public static Map<String, Timer.Summary> snapshot() {
+        Map<String, Timer.Summary> summaries = new TreeMap<>();
+        timers.forEach((name, timer) -> summaries.put(name, timer.summary()));
+        return summaries;
+    }
+
+    /** Summaries of all distributions sorted by name */
+    public static Map<String, Distribution.Summary> distributionSnapshot() {
+        Map<String, Distribution.Summary> summaries = new TreeMap<>();
+        distributions.forEach((name, distribution) -> summaries.put(name, distribution.summary()));
+        return summaries;
+    }
+
+    static void reset() {
+        timers.clear();
+        distributions.clear();
+    }
+}
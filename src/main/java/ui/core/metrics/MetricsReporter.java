@@ -0,0 +1,123 @@
+package ui.core.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import ui.core.config.SeleniumConfig;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Writes all timers from {@link Metrics} to metricsDir/run-&lt;runId&gt;.json and .csv when the suite finishes,
+ * with count, min, p50, p95, p99, max and mean in milliseconds. Distributions of counts go to the same JSON
+ * and, as they have no unit, to their own run-&lt;runId&gt;-distributions.csv.
+ */
+public class MetricsReporter implements ISuiteListener {
+    private static final Logger log = LogManager.getLogger(MetricsReporter.class);
+    private static final String RUN_ID = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"))
+            + "-" + ProcessHandle.current().pid();
+
+    @Override
+    public void onFinish(ISuite suite) {
+        write(suite.getName());
+    }
+
+    public static String getRunId() {
+        return RUN_ID;
+    }
+
+    // --------------------------------------- PRIVATE HELPERS ----------------------------------------
+
+    static void write(String suiteName) {
+        write(SeleniumConfig.getInstance().getMetricsDir(), suiteName);
+    }
+
+    static void write(Path dir, String suiteName) {
+        Map<String, Timer.Summary> timers = Metrics.snapshot();
+        Map<String, Distribution.Summary> distributions = Metrics.distributionSnapshot();
+        if (timers.isEmpty() && distributions.isEmpty()) return;
+
+        try {
+            Files.createDirectories(dir);
+            Path json = dir.resolve("run-" + RUN_ID + ".json");
+            Path csv = dir.resolve("run-" + RUN_ID + ".csv");
+            writeJson(json, suiteName, timers, distributions);
+            writeCsv(csv, timers);
+            if (!distributions.isEmpty()) writeDistributionsCsv(dir.resolve("run-" + RUN_ID + "-distributions.csv"), distributions);
+            log.info("Metrics for suite '{}' written to {} and {}", suiteName, json, csv);
+        } catch (IOException e) {
+            log.warn("Cannot write metrics to {}: {}", dir, e.getMessage());
+        }
+    }
+
+    private static void writeJson(Path file, String suite, Map<String, Timer.Summary> timers,
+                                  Map<String, Distribution.Summary> distributions) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("runId", RUN_ID);
+        report.put("suite", suite);
+        Map<String, Object> rows = new LinkedHashMap<>();
+        timers.forEach((name, summary) -> rows.put(name, row(summary)));
+        report.put("timers", rows);
+        Map<String, Object> counts = new LinkedHashMap<>();
+        distributions.forEach((name, summary) -> counts.put(name, row(summary)));
+        report.put("distributions", counts);
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+    }
+
+    private static void writeCsv(Path file, Map<String, Timer.Summary> timers) throws IOException {
+        try (Writer out = Files.newBufferedWriter(file)) {
+            out.write("name,count,min_ms,p50_ms,p95_ms,p99_ms,max_ms,mean_ms\n");
+            for (Timer.Summary summary : timers.values()) {
+                out.write(String.format(Locale.ROOT, "%s,%d,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f%n", summary.name(), summary.count(),
+                        summary.minMillis(), summary.percentileMillis(50), summary.percentileMillis(95),
+                        summary.percentileMillis(99), summary.maxMillis(), summary.meanMillis()));
+            }
+        }
+    }
+
+    private static void writeDistributionsCsv(Path file, Map<String, Distribution.Summary> distributions) throws IOException {
+        try (Writer out = Files.newBufferedWriter(file)) {
+            out.write("name,count,min,p50,p95,p99,max,mean\n");
+            for (Distribution.Summary summary : distributions.values()) {
+                out.write(String.format(Locale.ROOT, "%s,%d,%d,%d,%d,%d,%d,%.3f%n", summary.name(), summary.count(),
+                        summary.min(), summary.percentile(50), summary.percentile(95), summary.percentile(99),
+                        summary.max(), summary.mean()));
+            }
+        }
+    }
+
+    private static Map<String, Object> row(Timer.Summary summary) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("count", summary.count());
+        row.put("minMs", summary.minMillis());
+        row.put("p50Ms", summary.percentileMillis(50));
+        row.put("p95Ms", summary.percentileMillis(95));
+        row.put("p99Ms", summary.percentileMillis(99));
+        row.put("maxMs", summary.maxMillis());
+        row.put("meanMs", summary.meanMillis());
+        return row;
+    }
+
+    private static Map<String, Object> row(Distribution.Summary summary) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("count", summary.count());
+        row.put("min", summary.min());
+        row.put("p50", summary.percentile(50));
+        row.put("p95", summary.percentile(95));
+        row.put("p99", summary.percentile(99));
+        row.put("max", summary.max());
+        row.put("mean", summary.mean());
+        return row;
+    }
+}
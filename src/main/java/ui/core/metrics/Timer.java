@@ -0,0 +1,56 @@
+package ui.core.metrics;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/** Thread-safe recorder of durations with nearest-rank percentiles */
+public class Timer {
+    private final String name;
+    private long[] samples = new long[64];
+    private int count;
+
+    Timer(String name) {
+        this.name = name;
+    }
+
+    public String getName() { return name; }
+
+    public synchronized void record(Duration duration) {
+        recordNanos(duration.toNanos());
+    }
+
+    public synchronized void recordNanos(long nanos) {
+        if (count == samples.length) samples = Arrays.copyOf(samples, count * 2);
+        samples[count++] = nanos;
+    }
+
+    /** Immutable view of the samples recorded so far */
+    public synchronized Summary summary() {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        return new Summary(name, sorted);
+    }
+
+    public record Summary(String name, long[] sortedNanos) {
+        public int count() { return sortedNanos.length; }
+
+        public double totalMillis() { return Arrays.stream(sortedNanos).sum() / 1e6; }
+
+        public double meanMillis() { return count() == 0 ? 0 : totalMillis() / count(); }
+
+        public double minMillis() { return count() == 0 ? 0 : sortedNanos[0] / 1e6; }
+
+        public double maxMillis() { return count() == 0 ? 0 : sortedNanos[count() - 1] / 1e6; }
+
+        /** Nearest-rank percentile, e.g. percentileMillis(95) */
+        public double percentileMillis(double percentile) {
+            return count() == 0 ? 0 : nearestRank(sortedNanos, percentile) / 1e6;
+        }
+    }
+
+    // Value at rank ceil(p/100 * n) of a non-empty sorted array
+    static long nearestRank(long[] sorted, double percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.min(sorted.length, Math.max(rank, 1)) - 1];
+    }
+}
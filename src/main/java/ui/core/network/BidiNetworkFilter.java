@@ -0,0 +1,63 @@
+package ui.core.network;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.bidi.module.Network;
+import org.openqa.selenium.bidi.network.AddInterceptParameters;
+import org.openqa.selenium.bidi.network.ContinueRequestParameters;
+import org.openqa.selenium.bidi.network.InterceptPhase;
+import org.openqa.selenium.bidi.network.UrlPattern;
+import ui.core.config.NetworkFilterMode;
+
+import java.util.List;
+import java.util.Optional;
+
+/** WebDriver BiDi implementation, used for Firefox (started with webSocketUrl enabled) */
+class BidiNetworkFilter extends NetworkFilter {
+    private static final Logger log = LogManager.getLogger(BidiNetworkFilter.class);
+
+    private final Network network;
+
+    BidiNetworkFilter(WebDriver driver, UrlRules rules, NetworkFilterMode mode) {
+        super(rules, mode);
+        this.network = new Network(driver);
+
+        if (mode == NetworkFilterMode.AUDIT) {
+            // Nothing is paused, matched responses are only measured
+            network.onResponseCompleted(response -> {
+                String url = response.getResponseData().getUrl();
+                if (rules.isBlocked(url)) audited(url, response.getResponseData().getBytesReceived());
+            });
+            return;
+        }
+
+        // BiDi URL patterns name exact hosts, so a blocklist with wildcard hosts (the shipped one) would pause
+        // every request, first-party traffic included, on a round trip through Java; such rules are skipped instead.
+        Optional<List<String>> hosts = rules.literalHosts();
+        if (hosts.isEmpty()) {
+            log.warn("networkBlocklist has patterns without a fixed host, which BiDi cannot match; "
+                    + "Firefox traffic is not filtered. List the hosts themselves to block them on Firefox");
+            return;
+        }
+        AddInterceptParameters intercept = new AddInterceptParameters(InterceptPhase.BEFORE_REQUEST_SENT);
+        intercept.urlPatterns(hosts.get().stream().map(host -> new UrlPattern().hostname(host)).toList());
+        network.addIntercept(intercept);
+        network.onBeforeRequestSent(event -> {
+            if (!event.isBlocked()) return;
+            String id = event.getRequest().getRequestId();
+            String url = event.getRequest().getUrl();
+            if (rules.isBlocked(url)) {
+                network.failRequest(id);
+                blocked(url);
+            } else {
+                network.continueRequest(new ContinueRequestParameters(id));
+            }
+        });
+    }
+
+    @Override
+    protected void stop() {
+        network.close();
+    }
+}
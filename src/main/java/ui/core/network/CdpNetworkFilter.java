@@ -0,0 +1,79 @@
+package ui.core.network;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.NetworkInterceptor;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpResponse;
+import ui.core.config.NetworkFilterMode;
+
+import java.util.Map;
+
+/** Chrome DevTools Protocol implementation, used for Chrome and Edge */
+class CdpNetworkFilter extends NetworkFilter {
+    private static final Event<Map<String, Object>> REQUEST_PAUSED =
+            new Event<>("Fetch.requestPaused", input -> input.read(Json.MAP_TYPE));
+
+    private final NetworkInterceptor interceptor;
+    private final DevTools devTools;
+
+    CdpNetworkFilter(WebDriver driver, UrlRules rules, NetworkFilterMode mode) {
+        super(rules, mode);
+        if (mode == NetworkFilterMode.AUDIT) {
+            this.interceptor = new NetworkInterceptor(driver, audit());
+            this.devTools = null;
+        } else {
+            this.interceptor = null;
+            this.devTools = block(driver);
+        }
+    }
+
+    // Matched requests are executed from Java so their response size can be measured
+    private Filter audit() {
+        return next -> request -> {
+            String url = request.getUri();
+            // Unmatched requests are released straight back to the browser, without a round trip through Java
+            if (!rules.isBlocked(url)) return NetworkInterceptor.PROCEED_WITH_REQUEST;
+            HttpResponse response = next.execute(request);
+            audited(url, response.getContent().length());
+            return response;
+        };
+    }
+
+    /*
+     * Fetch is driven directly rather than through NetworkInterceptor, which can only answer a request
+     * or let it through; failing it is what BiDi does and what the page sees with a real ad blocker.
+     * The blocklist globs are the Fetch patterns, so only matching requests are paused at all.
+     */
+    private DevTools block(WebDriver driver) {
+        if (!(driver instanceof HasDevTools hasDevTools)) {
+            throw new IllegalArgumentException("Network filtering needs a DevTools connection: " + driver);
+        }
+        DevTools tools = hasDevTools.getDevTools();
+        tools.createSessionIfThereIsNotOne(driver.getWindowHandle());
+        tools.addListener(REQUEST_PAUSED, paused -> {
+            Object id = paused.get("requestId");
+            String url = (String) ((Map<?, ?>) paused.get("request")).get("url");
+            // The globs also match '?' as any character and the allowlist is not known to the browser
+            if (rules.isBlocked(url)) {
+                tools.send(new Command<Void>("Fetch.failRequest", Map.of("requestId", id, "errorReason", "BlockedByClient")));
+                blocked(url);
+            } else {
+                tools.send(new Command<Void>("Fetch.continueRequest", Map.of("requestId", id)));
+            }
+        });
+        tools.send(new Command<Void>("Fetch.enable", Map.of("patterns",
+                rules.patterns().stream().map(glob -> Map.of("urlPattern", glob, "requestStage", "Request")).toList())));
+        return tools;
+    }
+
+    @Override
+    protected void stop() {
+        if (interceptor != null) interceptor.close();
+        if (devTools != null) devTools.send(new Command<Void>("Fetch.disable", Map.of()));
+    }
+}
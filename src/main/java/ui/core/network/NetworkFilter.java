@@ -0,0 +1,117 @@
+package ui.core.network;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import ui.core.config.Browser;
+import ui.core.config.NetworkFilterMode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Intercepts the requests of one browser session and blocks (or audits) those matching {@link UrlRules}.
+ * Firefox is filtered through WebDriver BiDi, Chrome and Edge through the Chrome DevTools Protocol.
+ * Counts are kept per page, a page being everything requested between two {@link #beginPage} calls.
+ */
+public abstract class NetworkFilter implements AutoCloseable {
+    private static final Logger log = LogManager.getLogger(NetworkFilter.class);
+
+    /**
+     * Requests blocked (or, in audit mode, matched) while one page was open. In audit mode bytesSaved is measured;
+     * in block mode it is an estimate from sizes learned in earlier audit runs, and the blocked requests never
+     * audited (counted as 0 bytes) are unsizedRequests.
+     */
+    public record PageReport(String page, int blockedRequests, long bytesSaved, int unsizedRequests) { }
+
+    protected final UrlRules rules;
+    protected final NetworkFilterMode mode;
+    private final List<PageReport> reports = new ArrayList<>();
+    private volatile Page current = new Page("about:blank");
+
+    protected NetworkFilter(UrlRules rules, NetworkFilterMode mode) {
+        this.rules = rules;
+        this.mode = mode;
+    }
+
+    /** Start filtering the browser's traffic; Firefox must have been started with BiDi enabled */
+    public static NetworkFilter attach(Browser browser, WebDriver driver, UrlRules rules, NetworkFilterMode mode) {
+        if (mode == NetworkFilterMode.OFF) throw new IllegalArgumentException("networkFilter is off");
+        NetworkFilter filter = switch (browser) {
+            case FIREFOX -> new BidiNetworkFilter(driver, rules, mode);
+            case CHROME, EDGE -> new CdpNetworkFilter(driver, rules, mode);
+        };
+        log.info("Network filter attached to {} ({} mode)", browser, mode.name().toLowerCase(Locale.ROOT));
+        return filter;
+    }
+
+    /** Close the report of the previous page and attribute further requests to this one */
+    public void beginPage(String url) {
+        finishPage();
+        current = new Page(url);
+    }
+
+    /** Close the report of the current page; pages without matched requests are not reported */
+    public synchronized void finishPage() {
+        PageReport report = current.report();
+        current = new Page("about:blank");
+        if (report.blockedRequests() == 0) return;
+        reports.add(report);
+        if (mode == NetworkFilterMode.AUDIT) {
+            log.info("Audited {} third-party requests on {} ({} KB)", report.blockedRequests(), report.page(), report.bytesSaved() / 1024);
+        } else {
+            log.info("Blocked {} third-party requests on {} (~{} KB estimated from audit runs, {} never audited)",
+                    report.blockedRequests(), report.page(), report.bytesSaved() / 1024, report.unsizedRequests());
+        }
+    }
+
+    /** Reports of all finished pages, oldest first */
+    public synchronized List<PageReport> getReports() {
+        return List.copyOf(reports);
+    }
+
+    @Override
+    public void close() {
+        finishPage();
+        if (mode == NetworkFilterMode.AUDIT) ResourceSizes.save();
+        stop();
+    }
+
+    protected abstract void stop();
+
+    // Called from the driver's event thread for every blocked request
+    protected void blocked(String url) {
+        long estimate = ResourceSizes.estimate(url);
+        current.add(estimate);
+        if (estimate == 0) current.unsized.incrementAndGet();
+    }
+
+    // Called in audit mode with the real size of a matched response
+    protected void audited(String url, long bytes) {
+        ResourceSizes.learn(url, bytes);
+        current.add(bytes);
+    }
+
+    private static final class Page {
+        private final String url;
+        private final AtomicInteger requests = new AtomicInteger();
+        private final AtomicLong bytes = new AtomicLong();
+        private final AtomicInteger unsized = new AtomicInteger();
+
+        Page(String url) {
+            this.url = url;
+        }
+
+        void add(long size) {
+            requests.incrementAndGet();
+            bytes.addAndGet(size);
+        }
+
+        PageReport report() {
+            return new PageReport(url, requests.get(), bytes.get(), unsized.get());
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package ui.core.network;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import ui.core.config.SeleniumConfig;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+/**
+ * Response sizes of blocklisted URLs, learned in networkFilter=audit runs and kept in
+ * metricsDir/blocked-resource-sizes.properties. Blocked requests never produce a response,
+ * so this is what bytes-saved figures in block mode are estimated from.
+ */
+final class ResourceSizes {
+    private static final Logger log = LogManager.getLogger(ResourceSizes.class);
+    private static final String FILE = "blocked-resource-sizes.properties";
+    private static Properties sizes;
+
+    private ResourceSizes() { }
+
+    /** Last seen size of the URL (query string ignored), 0 when it was never audited */
+    static synchronized long estimate(String url) {
+        String size = load().getProperty(key(url));
+        return size == null ? 0 : Long.parseLong(size);
+    }
+
+    static synchronized void learn(String url, long bytes) {
+        if (bytes > 0) load().setProperty(key(url), Long.toString(bytes));
+    }
+
+    // Each audit-mode filter saves when its browser closes, in parallel forks too; with the atomic move a
+    // fork loading the sizes sees one complete file, never a store in progress
+    static synchronized void save() {
+        if (sizes == null || sizes.isEmpty()) return;
+        Path dir = SeleniumConfig.getInstance().getMetricsDir();
+        try {
+            Files.createDirectories(dir);
+            Path tmp = Files.createTempFile(dir, FILE, ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                sizes.store(out, "Response sizes of blocklisted URLs (bytes)");
+            }
+            Files.move(tmp, dir.resolve(FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Cannot write {} in {}: {}", FILE, dir, e.getMessage());
+        }
+    }
+
+    private static Properties load() {
+        if (sizes != null) return sizes;
+        sizes = new Properties();
+        Path file = SeleniumConfig.getInstance().getMetricsDir().resolve(FILE);
+        if (Files.isRegularFile(file)) {
+            try (InputStream is = Files.newInputStream(file)) {
+                sizes.load(is);
+            } catch (IOException e) {
+                log.warn("Ignoring unreadable {}: {}", file, e.getMessage());
+            }
+        }
+        return sizes;
+    }
+
+    private static String key(String url) {
+        int query = url.indexOf('?');
+        return query < 0 ? url : url.substring(0, query);
+    }
+}
@@ -0,0 +1,71 @@
+package ui.core.network;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Blocklist and allowlist of URL glob patterns, e.g. {@code *://*.doubleclick.net/*}.
+ * '*' matches any run of characters and patterns match the whole URL. The allowlist wins over the blocklist.
+ */
+public final class UrlRules {
+    private final List<String> blocklist;
+    private final List<Pattern> blocked;
+    private final List<Pattern> allowed;
+
+    public UrlRules(List<String> blocklist, List<String> allowlist) {
+        this.blocklist = List.copyOf(blocklist);
+        this.blocked = blocklist.stream().map(UrlRules::glob).toList();
+        this.allowed = allowlist.stream().map(UrlRules::glob).toList();
+    }
+
+    public boolean isBlocked(String url) {
+        return matches(blocked, url) && !matches(allowed, url);
+    }
+
+    public boolean isEmpty() {
+        return blocked.isEmpty();
+    }
+
+    /** The blocklist patterns as configured; Chrome's Fetch domain takes the same '*' globs */
+    public List<String> patterns() {
+        return blocklist;
+    }
+
+    /**
+     * Host names of the blocklist patterns, e.g. ads.example.com for {@code https://ads.example.com:8080/px*}, so
+     * a browser can be told to pause only requests to those hosts. Empty when a pattern has no host or a
+     * wildcard in it (as in {@code *://*.doubleclick.net}), since that cannot be narrowed to fixed host names.
+     */
+    public Optional<List<String>> literalHosts() {
+        List<String> hosts = new ArrayList<>();
+        for (String pattern : blocklist) {
+            int scheme = pattern.indexOf("://");
+            if (scheme < 0) return Optional.empty();
+            String authority = pattern.substring(scheme + 3).split("[/?#]", 2)[0];
+            String host = authority.substring(authority.lastIndexOf('@') + 1).replaceFirst(":[^:\\]]*$", "");
+            if (host.isEmpty() || host.contains("*")) return Optional.empty();
+            String lower = host.toLowerCase(Locale.ROOT);
+            if (!hosts.contains(lower)) hosts.add(lower);
+        }
+        return Optional.of(hosts);
+    }
+
+    private static boolean matches(List<Pattern> patterns, String url) {
+        for (Pattern pattern : patterns) {
+            if (pattern.matcher(url).matches()) return true;
+        }
+        return false;
+    }
+
+    private static Pattern glob(String pattern) {
+        StringBuilder regex = new StringBuilder();
+        for (String part : pattern.split("\\*", -1)) {
+            if (!regex.isEmpty()) regex.append(".*");
+            regex.append(Pattern.quote(part));
+        }
+        return Pattern.compile(regex.toString(), Pattern.CASE_INSENSITIVE);
+    }
+}
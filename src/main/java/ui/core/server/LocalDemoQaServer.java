@@ -0,0 +1,151 @@
+package ui.core.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Embedded stand-in for the demoqa pages used by the UI tests, served from the fixtures/ classpath folder:
+ * /webtables, /upload-download and /fixtures/* (scripts, styles, sampleFile.jpeg).
+ * Every response can be delayed: globally with {@link #setLatency} or per request with ?latency=ms.
+ * /webtables additionally accepts ?loadingDelay=ms, which keeps the table's loading overlay up that long on each re-render.
+ */
+public final class LocalDemoQaServer {
+    private static final Logger log = LogManager.getLogger(LocalDemoQaServer.class);
+    private static final Map<String, String> PAGES = Map.of(
+            "/webtables", "webtables.html",
+            "/upload-download", "upload-download.html");
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "html", "text/html; charset=utf-8",
+            "js", "application/javascript; charset=utf-8",
+            "css", "text/css; charset=utf-8",
+            "jpeg", "image/jpeg");
+    private static final Map<String, Optional<byte[]>> fixtures = new ConcurrentHashMap<>();
+    private static volatile Duration latency = Duration.ZERO;
+    private static HttpServer server;
+    private static ExecutorService executor;
+
+    private LocalDemoQaServer() { }
+
+    /** Start serving on localhost; a no-op when already running. Port 0 picks a free port. */
+    public static synchronized String start(int port, Duration latency) {
+        if (server != null) return getBaseUrl();
+        setLatency(latency);
+        try {
+            server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        } catch (IOException e) {
+            throw new RuntimeException("Cannot start local demoqa server on port " + port, e);
+        }
+        // One thread per request, so injected latency never queues parallel tests behind each other
+        executor = Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "local-demoqa");
+            t.setDaemon(true);
+            return t;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", LocalDemoQaServer::handle);
+        server.start();
+        log.info("Local demoqa server started at {} (latency {} ms)", getBaseUrl(), latency.toMillis());
+        return getBaseUrl();
+    }
+
+    public static synchronized void stop() {
+        if (server == null) return;
+        server.stop(0);
+        executor.shutdownNow();
+        server = null;
+        log.info("Local demoqa server stopped");
+    }
+
+    public static synchronized boolean isRunning() {
+        return server != null;
+    }
+
+    public static synchronized String getBaseUrl() {
+        if (server == null) throw new IllegalStateException("Local demoqa server is not running");
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    /** Delay added to every response, e.g. to exercise timing-sensitive waits */
+    public static void setLatency(Duration latency) {
+        LocalDemoQaServer.latency = latency;
+    }
+
+    // --------------------------------------- PRIVATE HELPERS ----------------------------------------
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            long delay;
+            try {
+                delay = delayMillis(exchange.getRequestURI().getQuery());
+            } catch (IllegalArgumentException e) {
+                exchange.sendResponseHeaders(400, -1);
+                return;
+            }
+            sleep(delay);
+            String path = exchange.getRequestURI().getPath();
+            String name = PAGES.getOrDefault(path, path.startsWith("/fixtures/") ? path.substring("/fixtures/".length()) : null);
+            Optional<byte[]> body = name == null || name.contains("..") ? Optional.empty() : fixture(name);
+
+            if (body.isEmpty()) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPES.getOrDefault(extension(name), "application/octet-stream"));
+            exchange.getResponseHeaders().set("Cache-Control", "no-store");
+            exchange.sendResponseHeaders(200, body.get().length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body.get());
+            }
+        }
+    }
+
+    // ?latency=ms overrides the global latency; a value that is not a non-negative number is a bad request
+    private static long delayMillis(String query) {
+        long millis = latency.toMillis();
+        if (query == null) return millis;
+        for (String param : query.split("&")) {
+            if (!param.startsWith("latency=")) continue;
+            millis = Long.parseLong(param.substring("latency=".length()));
+            if (millis < 0) throw new IllegalArgumentException("Negative latency: " + millis);
+        }
+        return millis;
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) return;
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Fixtures are read from the classpath once and served from memory
+    private static Optional<byte[]> fixture(String name) {
+        return fixtures.computeIfAbsent(name, n -> {
+            try (InputStream is = LocalDemoQaServer.class.getClassLoader().getResourceAsStream("fixtures/" + n)) {
+                return is == null ? Optional.empty() : Optional.of(is.readAllBytes());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static String extension(String name) {
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+}
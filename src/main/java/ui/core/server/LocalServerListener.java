@@ -0,0 +1,25 @@
+package ui.core.server;
+
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import ui.core.config.SeleniumConfig;
+
+/**
+ * Starts {@link LocalDemoQaServer} for the suite when localServer is enabled in selenium-config.xml.
+ * SeleniumConfig then reports the server as environmentURL, so page objects need no changes.
+ */
+public class LocalServerListener implements ISuiteListener {
+
+    @Override
+    public void onStart(ISuite suite) {
+        SeleniumConfig config = SeleniumConfig.getInstance();
+        if (config.getLocalServer()) {
+            LocalDemoQaServer.start(config.getLocalServerPort(), config.getLocalServerLatency());
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        LocalDemoQaServer.stop();
+    }
+}
@@ -0,0 +1,103 @@
+package ui.core.wait;
+
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.Wait;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Wait engine with adaptive polling: the first polls come quickly and the interval then grows by
+ * a factor up to a ceiling, so conditions that are already (or almost) true return in a few ms
+ * while long waits do not flood the driver with commands.
+ * Instances are immutable; {@link #withTimeout} and {@link #ignoring} return adjusted copies.
+ */
+public final class BackoffWait implements Wait<WebDriver> {
+    /** Ignored by default, like WebDriverWait: the element may simply not be there (yet) */
+    static final Set<Class<? extends Throwable>> DEFAULT_IGNORED = Set.of(NotFoundException.class, StaleElementReferenceException.class);
+
+    private final WebDriver driver;
+    private final Duration timeout;
+    private final Duration initialInterval;
+    private final Duration maxInterval;
+    private final double factor;
+    private final Set<Class<? extends Throwable>> ignored;
+
+    public BackoffWait(WebDriver driver, Duration timeout, Duration initialInterval, Duration maxInterval, double factor) {
+        this(driver, timeout, initialInterval, maxInterval, factor, DEFAULT_IGNORED);
+    }
+
+    private BackoffWait(WebDriver driver, Duration timeout, Duration initialInterval, Duration maxInterval, double factor,
+                        Set<Class<? extends Throwable>> ignored) {
+        if (factor < 1) throw new IllegalArgumentException("Backoff factor must be >= 1: " + factor);
+        this.driver = driver;
+        this.timeout = timeout;
+        this.initialInterval = initialInterval;
+        this.maxInterval = maxInterval.compareTo(initialInterval) < 0 ? initialInterval : maxInterval;
+        this.factor = factor;
+        this.ignored = Set.copyOf(ignored);
+    }
+
+    public BackoffWait withTimeout(Duration timeout) {
+        return timeout.equals(this.timeout) ? this : new BackoffWait(driver, timeout, initialInterval, maxInterval, factor, ignored);
+    }
+
+    /** Copy that additionally ignores the given exception types while polling */
+    @SafeVarargs
+    public final BackoffWait ignoring(Class<? extends Throwable>... types) {
+        return new BackoffWait(driver, timeout, initialInterval, maxInterval, factor, IgnoredExceptions.plus(ignored, types));
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /** Poll until the condition returns a non-null value other than Boolean.FALSE, and return it */
+    @Override
+    public <V> V until(Function<? super WebDriver, V> condition) {
+        return until(condition, new int[1]);
+    }
+
+    /** {@link #until(Function)}, leaving the number of polls in polls[0] whether it returns or throws */
+    <V> V until(Function<? super WebDriver, V> condition, int[] polls) {
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        long interval = initialInterval.toNanos();
+        polls[0] = 0;
+        Throwable lastError = null;
+
+        while (true) {
+            polls[0]++;
+            try {
+                V value = condition.apply(driver);
+                if (value != null && !Boolean.FALSE.equals(value)) return value;
+            } catch (Throwable e) {
+                if (!IgnoredExceptions.contains(ignored, e)) throw e;
+                lastError = e;
+            }
+
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new TimeoutException(String.format(
+                        "Expected condition failed: %s (tried for %d ms with %d polls, interval %d..%d ms)",
+                        condition, Duration.ofNanos(System.nanoTime() - start).toMillis(), polls[0],
+                        initialInterval.toMillis(), maxInterval.toMillis()), lastError);
+            }
+            sleep(Math.min(interval, remaining));
+            interval = Math.min(maxInterval.toNanos(), (long) (interval * factor));
+        }
+    }
+
+    private static void sleep(long nanos) {
+        try {
+            Thread.sleep(nanos / 1_000_000, (int) (nanos % 1_000_000));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting", e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package ui.core.wait;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/** Exception types a polling loop retries instead of failing, for BackoffWait and Poller */
+final class IgnoredExceptions {
+
+    private IgnoredExceptions() { }
+
+    /**
+     * The types plus the extra ones as a new set. The extra array is only read, never stored or passed on,
+     * which is what lets the public ignoring(...) methods declare @SafeVarargs.
+     */
+    @SafeVarargs
+    static Set<Class<? extends Throwable>> plus(Set<Class<? extends Throwable>> types, Class<? extends Throwable>... extra) {
+        Set<Class<? extends Throwable>> all = new HashSet<>(types);
+        for (Class<? extends Throwable> type : extra) all.add(type);
+        return all;
+    }
+
+    static boolean contains(Set<Class<? extends Throwable>> types, Throwable e) {
+        for (Class<? extends Throwable> type : types) {
+            if (type.isInstance(e)) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,44 @@
+package ui.core.wait;
+
+import org.openqa.selenium.WebDriver;
+import ui.core.driver.DriverFactory;
+
+/**
+ * Driver and wait engine of the current test thread, shared by every page object the test creates.
+ * Built on first use and rebuilt when a different driver is bound to the thread, so constructing
+ * a page object is just a thread-local lookup.
+ */
+public final class PageContext {
+    private static final ThreadLocal<PageContext> current = new ThreadLocal<>();
+
+    private final WebDriver driver;
+    private final WaitUtils waitUtils;
+
+    private PageContext(WebDriver driver) {
+        this.driver = driver;
+        this.waitUtils = new WaitUtils(driver);
+    }
+
+    public static PageContext current() {
+        WebDriver driver = DriverFactory.getDriver();
+        PageContext context = current.get();
+        if (context == null || context.driver != driver) {
+            context = new PageContext(driver);
+            current.set(context);
+        }
+        return context;
+    }
+
+    /** Drop the context of the current thread, called when its driver is released */
+    public static void clear() {
+        current.remove();
+    }
+
+    public WebDriver getDriver() {
+        return driver;
+    }
+
+    public WaitUtils getWaitUtils() {
+        return waitUtils;
+    }
+}
@@ -0,0 +1,181 @@
+package ui.core.wait;
+
+import org.openqa.selenium.TimeoutException;
+import ui.core.config.SeleniumConfig;
+import ui.core.metrics.Metrics;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Polls any condition (a file on disk, a table row, a size) on a System.nanoTime deadline with the
+ * same growing interval as BackoffWait, optionally jittered so parallel tests do not poll in lockstep.
+ * Exceptions and errors (an AssertionError from a check, say) are only retried when their type was passed
+ * to {@link #ignoring}. Every call is recorded in the wait profile as condition "poll", so polling loops
+ * show up next to the WebDriver waits; its elapsed time goes to the Metrics timer {@code poll.<kind>} and
+ * its number of attempts to the distribution {@code poll.<kind>.attempts}. The kind is the description up
+ * to its first ':' ("row: Ann Lee" is timed as poll.row), so per-call details do not create a metric each.
+ * Instances are immutable; the with* methods return adjusted copies.
+ */
+public final class Poller {
+    private final Duration timeout;
+    private final Duration initialInterval;
+    private final Duration maxInterval;
+    private final double factor;
+    private final double jitter;
+    private final Set<Class<? extends Throwable>> ignored;
+    private final boolean profiling;
+
+    private Poller(Duration timeout, Duration initialInterval, Duration maxInterval, double factor, double jitter,
+                   Set<Class<? extends Throwable>> ignored, boolean profiling) {
+        if (factor < 1) throw new IllegalArgumentException("Backoff factor must be >= 1: " + factor);
+        if (jitter < 0 || jitter >= 1) throw new IllegalArgumentException("Jitter must be in [0, 1): " + jitter);
+        this.timeout = timeout;
+        this.initialInterval = initialInterval;
+        this.maxInterval = maxInterval.compareTo(initialInterval) < 0 ? initialInterval : maxInterval;
+        this.factor = factor;
+        this.jitter = jitter;
+        this.ignored = Set.copyOf(ignored);
+        this.profiling = profiling;
+    }
+
+    public static Poller of(Duration timeout, Duration initialInterval, Duration maxInterval, double factor) {
+        return new Poller(timeout, initialInterval, maxInterval, factor, 0, Set.of(),
+                SeleniumConfig.getInstance().getWaitProfiling());
+    }
+
+    /** timeout and polling intervals from selenium-config.xml, like every WaitUtils wait */
+    public static Poller defaults() {
+        SeleniumConfig config = SeleniumConfig.getInstance();
+        return of(config.getTimeout(), config.getWaitPollingInterval(), config.getWaitPollingMaxInterval(),
+                config.getWaitPollingBackoff());
+    }
+
+    public Poller withTimeout(Duration timeout) {
+        return new Poller(timeout, initialInterval, maxInterval, factor, jitter, ignored, profiling);
+    }
+
+    public Poller withInterval(Duration initialInterval, Duration maxInterval) {
+        return new Poller(timeout, initialInterval, maxInterval, factor, jitter, ignored, profiling);
+    }
+
+    /** Copy that randomizes each sleep by up to +/- fraction of the interval */
+    public Poller withJitter(double fraction) {
+        return new Poller(timeout, initialInterval, maxInterval, factor, fraction, ignored, profiling);
+    }
+
+    /** Copy that additionally retries the given exception types instead of failing */
+    @SafeVarargs
+    public final Poller ignoring(Class<? extends Throwable>... types) {
+        return new Poller(timeout, initialInterval, maxInterval, factor, jitter, IgnoredExceptions.plus(ignored, types), profiling);
+    }
+
+    Poller withProfiling(boolean profiling) {
+        return new Poller(timeout, initialInterval, maxInterval, factor, jitter, ignored, profiling);
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Poll until the condition returns a non-null value other than Boolean.FALSE, and return it.
+     *
+     * @throws TimeoutException when the deadline passes first, with the last ignored exception as cause
+     */
+    public <V> V until(String description, Callable<V> condition) {
+        return run(description, condition, true);
+    }
+
+    /** {@link #until}, but empty instead of a TimeoutException when the deadline passes */
+    public <V> Optional<V> poll(String description, Callable<V> condition) {
+        return Optional.ofNullable(run(description, condition, false));
+    }
+
+    // --------------------------------------- PRIVATE HELPERS ----------------------------------------
+
+    private <V> V run(String description, Callable<V> condition, boolean throwOnTimeout) {
+        int[] attempts = new int[1];
+        Throwable[] lastError = new Throwable[1];
+        long start = System.nanoTime();
+        V value;
+        try {
+            value = attempt(description, condition, attempts, lastError, start);
+        } catch (RuntimeException | Error e) {
+            record(description, start, attempts[0], WaitProfiler.Outcome.ERROR, e);
+            throw e;
+        }
+        if (value != null) {
+            record(description, start, attempts[0], WaitProfiler.Outcome.MET, null);
+            return value;
+        }
+        if (!throwOnTimeout) {
+            record(description, start, attempts[0], WaitProfiler.Outcome.TIMEOUT, null);
+            return null;
+        }
+        TimeoutException timeout = new TimeoutException(String.format("Polling failed: %s (tried for %d ms with %d attempts)",
+                description, Duration.ofNanos(System.nanoTime() - start).toMillis(), attempts[0]), lastError[0]);
+        record(description, start, attempts[0], WaitProfiler.Outcome.TIMEOUT, timeout);
+        throw timeout;
+    }
+
+    // The condition's value, or null once the deadline has passed
+    private <V> V attempt(String description, Callable<V> condition, int[] attempts, Throwable[] lastError, long start) {
+        long deadline = start + timeout.toNanos();
+        long interval = initialInterval.toNanos();
+
+        while (true) {
+            attempts[0]++;
+            try {
+                V value = condition.call();
+                if (value != null && !Boolean.FALSE.equals(value)) return value;
+            } catch (Throwable e) {
+                if (!IgnoredExceptions.contains(ignored, e)) {
+                    if (e instanceof Error error) throw error;
+                    throw e instanceof RuntimeException r ? r : new RuntimeException(description + " failed", e);
+                }
+                lastError[0] = e;
+            }
+
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) return null;
+            park(Math.min(jittered(interval), remaining));
+            interval = Math.min(maxInterval.toNanos(), (long) (interval * factor));
+        }
+    }
+
+    private void record(String description, long start, int attempts, WaitProfiler.Outcome outcome, Throwable error) {
+        long elapsed = System.nanoTime() - start;
+        String metric = metricName(description);
+        Metrics.timer(metric).recordNanos(elapsed);
+        Metrics.distribution(metric + ".attempts").record(attempts);
+        if (profiling) WaitProfiler.record(description, "poll", elapsed, attempts, outcome, error);
+    }
+
+    static String metricName(String description) {
+        int colon = description.indexOf(':');
+        String kind = (colon < 0 ? description : description.substring(0, colon)).trim();
+        return "poll." + kind.replaceAll("\\s+", "-");
+    }
+
+    private long jittered(long interval) {
+        if (jitter == 0) return interval;
+        return Math.max(1, (long) (interval * (1 + jitter * (2 * ThreadLocalRandom.current().nextDouble() - 1))));
+    }
+
+    // parkNanos may return early (spuriously or on unpark), so park again for whatever is left
+    private static void park(long nanos) {
+        long end = System.nanoTime() + nanos;
+        for (long left = nanos; left > 0; left = end - System.nanoTime()) {
+            LockSupport.parkNanos(left);
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while polling");
+            }
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package ui.core.wait;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import ui.core.config.SeleniumConfig;
+import ui.core.metrics.MetricsReporter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Resolves swallowed timeouts as each test or configuration method finishes and, when the suite ends,
+ * writes the wait profile to metricsDir/waits-&lt;runId&gt;.json and .csv. The top wait sinks and the waits
+ * that never succeeded are also logged, so the biggest latency wins are visible without opening the files.
+ */
+public class WaitProfileReporter implements ISuiteListener, ITestListener, IInvokedMethodListener {
+    private static final Logger log = LogManager.getLogger(WaitProfileReporter.class);
+    private static final int TOP = 10;
+
+    // Timeouts still pending were hit outside any test or configuration method, which nothing can fail with
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult result) {
+        WaitProfiler.testFinished(null);
+    }
+
+    // Test methods are resolved by the onTest* callbacks, which run after this with the final status
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult result) {
+        if (method.isConfigurationMethod()) WaitProfiler.testFinished(result.getThrowable());
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        WaitProfiler.testFinished(null);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        WaitProfiler.testFinished(result.getThrowable());
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        WaitProfiler.testFinished(result.getThrowable());
+    }
+
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+        WaitProfiler.testFinished(result.getThrowable());
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        write(suite.getName());
+    }
+
+    // --------------------------------------- PRIVATE HELPERS ----------------------------------------
+
+    static void write(String suiteName) {
+        List<WaitProfiler.SiteStats> sites = WaitProfiler.sites();
+        if (sites.isEmpty()) return;
+
+        log.info("Top wait sinks for suite '{}':", suiteName);
+        sites.stream().limit(TOP).forEach(s -> log.info("  {} ms total, {} calls, {} timeouts ({} swallowed): {} {} [{}]",
+                s.total().toMillis(), s.count(), s.timeouts(), s.swallowed(), s.caller(), s.condition(), s.locator()));
+        sites.stream().filter(WaitProfiler.SiteStats::alwaysTimesOut).forEach(s -> log.warn(
+                "Wait always times out ({} of {} calls, {} ms lost): {} {} [{}]",
+                s.timeouts(), s.count(), s.total().toMillis(), s.caller(), s.condition(), s.locator()));
+
+        Path dir = SeleniumConfig.getInstance().getMetricsDir();
+        try {
+            Files.createDirectories(dir);
+            Path json = dir.resolve("waits-" + MetricsReporter.getRunId() + ".json");
+            Path csv = dir.resolve("waits-" + MetricsReporter.getRunId() + ".csv");
+            writeJson(json, suiteName, sites, WaitProfiler.tests());
+            writeCsv(csv, sites);
+            log.info("Wait profile for suite '{}' written to {} and {}", suiteName, json, csv);
+        } catch (IOException e) {
+            log.warn("Cannot write wait profile to {}: {}", dir, e.getMessage());
+        }
+    }
+
+    private static void writeJson(Path file, String suite, List<WaitProfiler.SiteStats> sites,
+                                  List<WaitProfiler.TestStats> tests) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("runId", MetricsReporter.getRunId());
+        report.put("suite", suite);
+        report.put("sites", sites.stream().map(WaitProfileReporter::row).toList());
+        report.put("tests", tests.stream().map(WaitProfileReporter::row).toList());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+    }
+
+    private static void writeCsv(Path file, List<WaitProfiler.SiteStats> sites) throws IOException {
+        try (Writer out = Files.newBufferedWriter(file)) {
+            out.write("caller,condition,locator,count,total_ms,mean_ms,max_ms,polls,timeouts,swallowed,tests,always_times_out\n");
+            for (WaitProfiler.SiteStats s : sites) {
+                out.write(String.format(Locale.ROOT, "%s,%s,%s,%d,%.3f,%.3f,%.3f,%d,%d,%d,%d,%b%n",
+                        csv(s.caller()), csv(s.condition()), csv(s.locator()), s.count(), millis(s.total().toNanos()),
+                        millis(s.mean().toNanos()), millis(s.max().toNanos()), s.polls(), s.timeouts(), s.swallowed(),
+                        s.tests(), s.alwaysTimesOut()));
+            }
+        }
+    }
+
+    private static Map<String, Object> row(WaitProfiler.SiteStats s) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("caller", s.caller());
+        row.put("condition", s.condition());
+        row.put("locator", s.locator());
+        row.put("count", s.count());
+        row.put("totalMs", millis(s.total().toNanos()));
+        row.put("meanMs", millis(s.mean().toNanos()));
+        row.put("maxMs", millis(s.max().toNanos()));
+        row.put("polls", s.polls());
+        row.put("timeouts", s.timeouts());
+        row.put("swallowed", s.swallowed());
+        row.put("tests", s.tests());
+        row.put("alwaysTimesOut", s.alwaysTimesOut());
+        return row;
+    }
+
+    private static Map<String, Object> row(WaitProfiler.TestStats t) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("test", t.test());
+        row.put("waits", t.waits());
+        row.put("totalMs", millis(t.total().toNanos()));
+        row.put("timeouts", t.timeouts());
+        row.put("swallowed", t.swallowed());
+        return row;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    // Locators and condition descriptions may contain commas and quotes
+    private static String csv(String value) {
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
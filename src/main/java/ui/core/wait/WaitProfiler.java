@@ -0,0 +1,174 @@
+package ui.core.wait;
+
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JVM-wide profile of every WaitUtils call: elapsed time, polls and outcome, aggregated per wait site
+ * (the page-object method that waited, the locator and the condition) and per test.
+ * A timeout is counted as swallowed when the test that hit it did not fail with it, e.g. because a
+ * page object caught it; WaitProfileReporter resolves that when each test finishes.
+ */
+public final class WaitProfiler {
+    public enum Outcome { MET, TIMEOUT, ERROR }
+
+    /** Totals for one wait site, sorted by total time in reports */
+    public record SiteStats(String caller, String locator, String condition, long count, Duration total, Duration max,
+                            long polls, long timeouts, long swallowed, int tests) {
+        public Duration mean() {
+            return count == 0 ? Duration.ZERO : total.dividedBy(count);
+        }
+
+        /** Never succeeded: a wait that only ever costs its full timeout */
+        public boolean alwaysTimesOut() {
+            return count > 0 && timeouts == count;
+        }
+    }
+
+    /** Totals for one test */
+    public record TestStats(String test, long waits, Duration total, long timeouts, long swallowed) { }
+
+    private record Site(String caller, String locator, String condition) { }
+
+    // A timeout waiting for its test to finish; swallowed unless the test failed with this exception
+    private record Pending(Site site, String test, Throwable error) { }
+
+    private static final class Totals {
+        long count, nanos, maxNanos, polls, timeouts, swallowed;
+        final Set<String> tests = new HashSet<>();
+    }
+
+    private static final Set<String> WAIT_CLASSES = Set.of(
+            WaitUtils.class.getName(), BackoffWait.class.getName(), Poller.class.getName(), WaitProfiler.class.getName());
+    private static final String PAGES_PACKAGE = "ui.pages.";
+    private static final String NO_TEST = "(outside test)";
+
+    private static final Map<Site, Totals> sites = new ConcurrentHashMap<>();
+    private static final Map<String, Totals> tests = new ConcurrentHashMap<>();
+    private static final ThreadLocal<List<Pending>> pending = ThreadLocal.withInitial(ArrayList::new);
+    private static final StackWalker walker = StackWalker.getInstance();
+
+    private WaitProfiler() { }
+
+    /**
+     * Record one finished wait. error is the exception it ended with, or null; a timeout reported
+     * without an exception (the wait returned false) is swallowed by definition.
+     */
+    static void record(String locator, String condition, long nanos, int polls, Outcome outcome, Throwable error) {
+        Site site = new Site(caller(), locator, condition);
+        String test = currentTest();
+        boolean timeout = outcome == Outcome.TIMEOUT;
+        boolean swallowed = timeout && error == null;
+
+        Totals totals = sites.computeIfAbsent(site, s -> new Totals());
+        synchronized (totals) {
+            totals.count++;
+            totals.nanos += nanos;
+            totals.maxNanos = Math.max(totals.maxNanos, nanos);
+            totals.polls += polls;
+            if (timeout) totals.timeouts++;
+            if (swallowed) totals.swallowed++;
+            totals.tests.add(test);
+        }
+        Totals perTest = tests.computeIfAbsent(test, t -> new Totals());
+        synchronized (perTest) {
+            perTest.count++;
+            perTest.nanos += nanos;
+            if (timeout) perTest.timeouts++;
+            if (swallowed) perTest.swallowed++;
+        }
+        if (timeout && error != null) pending.get().add(new Pending(site, test, error));
+    }
+
+    /**
+     * Called when the current thread's test or configuration method finished; failure is what it failed
+     * with, or null. Timeouts it left pending are resolved, so none carry over to the next test.
+     */
+    static void testFinished(Throwable failure) {
+        List<Pending> timeouts = pending.get();
+        for (Pending p : timeouts) {
+            if (causedBy(failure, p.error())) continue;
+            Totals site = sites.get(p.site());
+            synchronized (site) {
+                site.swallowed++;
+            }
+            Totals perTest = tests.get(p.test());
+            synchronized (perTest) {
+                perTest.swallowed++;
+            }
+        }
+        timeouts.clear();
+    }
+
+    /** Wait sites by total time spent, largest first */
+    public static List<SiteStats> sites() {
+        List<SiteStats> result = new ArrayList<>();
+        sites.forEach((site, t) -> {
+            synchronized (t) {
+                result.add(new SiteStats(site.caller(), site.locator(), site.condition(), t.count, Duration.ofNanos(t.nanos),
+                        Duration.ofNanos(t.maxNanos), t.polls, t.timeouts, t.swallowed, t.tests.size()));
+            }
+        });
+        result.sort(Comparator.comparing(SiteStats::total).reversed());
+        return result;
+    }
+
+    /** Tests by total time spent waiting, largest first */
+    public static List<TestStats> tests() {
+        List<TestStats> result = new ArrayList<>();
+        tests.forEach((test, t) -> {
+            synchronized (t) {
+                result.add(new TestStats(test, t.count, Duration.ofNanos(t.nanos), t.timeouts, t.swallowed));
+            }
+        });
+        result.sort(Comparator.comparing(TestStats::total).reversed());
+        return result;
+    }
+
+    static void reset() {
+        sites.clear();
+        tests.clear();
+        pending.remove();
+    }
+
+    // --------------------------------------- PRIVATE HELPERS ----------------------------------------
+
+    // Outermost page-object frame of the call (the method the test called), else the first frame outside the wait classes
+    private static String caller() {
+        return walker.walk(frames -> {
+            String first = null;
+            String page = null;
+            for (var it = frames.iterator(); it.hasNext(); ) {
+                StackWalker.StackFrame frame = it.next();
+                String cls = frame.getClassName();
+                if (WAIT_CLASSES.contains(cls)) continue;
+                String name = cls.substring(cls.lastIndexOf('.') + 1) + "." + frame.getMethodName();
+                if (first == null) first = name;
+                if (!cls.startsWith(PAGES_PACKAGE)) break;
+                if (!frame.getMethodName().startsWith("lambda$")) page = name;
+            }
+            return page != null ? page : first == null ? "(unknown)" : first;
+        });
+    }
+
+    private static String currentTest() {
+        ITestResult result = Reporter.getCurrentTestResult();
+        return result == null ? NO_TEST : result.getMethod().getQualifiedName();
+    }
+
+    private static boolean causedBy(Throwable failure, Throwable error) {
+        for (Throwable t = failure; t != null; t = t.getCause() == t ? null : t.getCause()) {
+            if (t == error) return true;
+        }
+        return false;
+    }
+}
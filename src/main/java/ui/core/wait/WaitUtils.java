@@ -3,53 +3,168 @@ package ui.core.wait;
 import ui.core.config.SeleniumConfig;
 import ui.core.driver.DriverFactory;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
+
 import java.time.Duration;
+import java.util.function.Function;
 
+/**
+ * Explicit waits for one driver, backed by a {@link BackoffWait}.
+ * One instance per test thread is shared by all page objects through {@link PageContext}.
+ * Every wait is reported to {@link WaitProfiler} unless waitProfiling is off.
+ */
 public class WaitUtils {
-    private final WebDriverWait waitUtils;
+    // Resolves true once the subtree under arguments[0] (the whole document when it is missing) has not
+    // mutated for arguments[2] ms while nothing matches the busy selector arguments[1]; false after arguments[3] ms
+    private static final String DOM_SETTLED = """
+            var root = document.querySelector(arguments[0]) || document.documentElement;
+            var busy = arguments[1], quiet = arguments[2], max = arguments[3], done = arguments[arguments.length - 1];
+            var timer = null, finished = false;
+            function finish(settled) {
+                if (finished) return;
+                finished = true;
+                observer.disconnect();
+                clearTimeout(timer);
+                clearTimeout(limit);
+                done(settled);
+            }
+            function arm() {
+                clearTimeout(timer);
+                timer = setTimeout(function () {
+                    if (busy && document.querySelector(busy)) arm();
+                    else finish(true);
+                }, quiet);
+            }
+            var observer = new MutationObserver(arm);
+            observer.observe(root, { childList: true, subtree: true, characterData: true, attributes: true });
+            var limit = setTimeout(function () { finish(false); }, max);
+            arm();
+            """;
+
+    private final WebDriver driver;
+    private final BackoffWait waitUtils;
+    private final Duration quietWindow;
+    private final boolean profiling;
 
-    // Constructor to initialize the WebDriver and WebDriverWait
+    // Constructor to initialize the wait engine for the current thread's driver
     public WaitUtils() {
-        WebDriver driver = DriverFactory.getDriver();
-        int timeout = Integer.parseInt(SeleniumConfig.getInstance().getTimeout());
-        this.waitUtils = new WebDriverWait(driver, Duration.ofSeconds(timeout));
+        this(DriverFactory.getDriver());
+    }
+
+    public WaitUtils(WebDriver driver) {
+        SeleniumConfig config = SeleniumConfig.getInstance();
+        this.driver = driver;
+        this.quietWindow = config.getDomQuietWindow();
+        this.profiling = config.getWaitProfiling();
+        this.waitUtils = new BackoffWait(driver, config.getTimeout(),
+                config.getWaitPollingInterval(), config.getWaitPollingMaxInterval(), config.getWaitPollingBackoff());
+    }
+
+    /** Wait for any condition with the default timeout and return its result */
+    public <V> V until(Function<? super WebDriver, V> condition) {
+        return profiled(null, describe(condition), waitUtils, condition);
+    }
+
+    /** Wait for any condition with a timeout for this call only */
+    public <V> V until(Function<? super WebDriver, V> condition, Duration timeout) {
+        return profiled(null, describe(condition), waitUtils.withTimeout(timeout), condition);
+    }
+
+    /** Wait for any condition, additionally ignoring the given exceptions while polling */
+    @SafeVarargs
+    public final <V> V until(Function<? super WebDriver, V> condition, Duration timeout, Class<? extends Throwable>... ignoring) {
+        return profiled(null, describe(condition), waitUtils.withTimeout(timeout).ignoring(ignoring), condition);
     }
 
-    // Common wait method for element to be clickable - By
-    public void waitForElementToBeClickable(By locator) {
-        waitUtils.until(ExpectedConditions.elementToBeClickable(locator));
+    // Common wait method for element to be clickable - By; returns the element the condition resolved
+    public WebElement waitForElementToBeClickable(By locator) {
+        return profiled(locator, "clickable", waitUtils, ExpectedConditions.elementToBeClickable(locator));
     }
 
     // Common wait method for element to be clickable - WebElement
-    public void waitForElementToBeClickable(WebElement element) {
-        waitUtils.until(ExpectedConditions.elementToBeClickable(element));
+    public WebElement waitForElementToBeClickable(WebElement element) {
+        return profiled(element, "clickable", waitUtils, ExpectedConditions.elementToBeClickable(element));
     }
 
-    // Common wait method for presence of element
-    public void waitForElementPresence(By locator) {
-        waitUtils.until(ExpectedConditions.presenceOfElementLocated(locator));
+    // Common wait method for presence of element; returns the located element
+    public WebElement waitForElementPresence(By locator) {
+        return profiled(locator, "presence", waitUtils, ExpectedConditions.presenceOfElementLocated(locator));
     }
 
     // Function to implement dynamic wait for URL
     public void waitForUrl(String partialUrl) {
-        waitUtils.until(ExpectedConditions.urlContains(partialUrl));
+        profiled(partialUrl, "urlContains", waitUtils, ExpectedConditions.urlContains(partialUrl));
     }
 
-    // Common wait method for element to became visible
-    public void waitForElementToBeVisible(By locator) {
-        waitUtils.until(ExpectedConditions.visibilityOfElementLocated(locator));
+    // Common wait method for element to became visible; returns the visible element
+    public WebElement waitForElementToBeVisible(By locator) {
+        return profiled(locator, "visible", waitUtils, ExpectedConditions.visibilityOfElementLocated(locator));
     }
 
     // Common wait method for element to became invisible
     public void waitForElementToBeInvisible(By locator) {
-        waitUtils.until(ExpectedConditions.invisibilityOfElementLocated(locator));
+        profiled(locator, "invisible", waitUtils, ExpectedConditions.invisibilityOfElementLocated(locator));
+    }
+
+    /**
+     * Wait, event driven inside the browser, until the subtree under the CSS selector has stopped
+     * mutating for domQuietMs and nothing matches busySelector (may be null). One round trip.
+     *
+     * @return false when it was still changing after the timeout
+     */
+    public boolean waitForDomToSettle(String rootSelector, String busySelector, Duration timeout) {
+        long start = System.nanoTime();
+        boolean settled;
+        try {
+            settled = Boolean.TRUE.equals(((JavascriptExecutor) driver).executeAsyncScript(DOM_SETTLED,
+                    rootSelector, busySelector, quietWindow.toMillis(), timeout.toMillis()));
+        } catch (ScriptTimeoutException e) {
+            // The session's script timeout is shorter than the requested bound
+            settled = false;
+        }
+        if (profiling) {
+            WaitProfiler.record(rootSelector, "domSettled", System.nanoTime() - start, 1,
+                    settled ? WaitProfiler.Outcome.MET : WaitProfiler.Outcome.TIMEOUT, null);
+        }
+        return settled;
+    }
+
+    /** {@link #waitForDomToSettle(String, String, Duration)} bounded by the configured timeout */
+    public boolean waitForDomToSettle(String rootSelector, String busySelector) {
+        return waitForDomToSettle(rootSelector, busySelector, SeleniumConfig.getInstance().getTimeout());
     }
 
     public void waitForAttributeToBe(By locator, String text) {
-        waitUtils.until(ExpectedConditions.attributeToBe(locator, "value", text));
+        profiled(locator, "valueToBe", waitUtils, ExpectedConditions.attributeToBe(locator, "value", text));
+    }
+
+    // --------------------------------------- PRIVATE HELPERS ----------------------------------------
+
+    // target is the locator/element/URL waited for, or null for a free-form condition
+    private <V> V profiled(Object target, String type, BackoffWait engine, Function<? super WebDriver, V> check) {
+        if (!profiling) return engine.until(check);
+        String locator = target == null ? "-" : target.toString();
+        int[] polls = new int[1];
+        long start = System.nanoTime();
+        try {
+            V value = engine.until(check, polls);
+            WaitProfiler.record(locator, type, System.nanoTime() - start, polls[0], WaitProfiler.Outcome.MET, null);
+            return value;
+        } catch (RuntimeException e) {
+            WaitProfiler.Outcome outcome = e instanceof TimeoutException ? WaitProfiler.Outcome.TIMEOUT : WaitProfiler.Outcome.ERROR;
+            WaitProfiler.record(locator, type, System.nanoTime() - start, polls[0], outcome, e);
+            throw e;
+        }
+    }
+
+    // ExpectedConditions describe themselves; lambdas only have a generated class name
+    private static String describe(Object condition) {
+        String text = condition.toString();
+        return text.contains("$$Lambda") ? "custom" : text;
     }
 }
@@ -4,45 +4,126 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.jspecify.annotations.Nullable;
 import org.openqa.selenium.By;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import ui.core.config.FormFillMode;
 import ui.core.config.SeleniumConfig;
 import ui.core.driver.DriverFactory;
+import ui.core.wait.PageContext;
 import ui.core.wait.WaitUtils;
 
-import java.util.Optional;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 public class BasePageObject {
+    // arguments[0] is a list of [using, locator, text]. Values go through the prototype's native setter so
+    // React's value tracker sees the change, then input/change fire; returns the indexes whose value did not stick
+    private static final String SET_VALUES = """
+            var fields = arguments[0];
+            function locate(using, value) {
+                if (using === 'id') return document.getElementById(value);
+                if (using === 'name') return document.getElementsByName(value)[0] || null;
+                if (using === 'class name') return document.getElementsByClassName(value)[0] || null;
+                if (using === 'tag name') return document.getElementsByTagName(value)[0] || null;
+                if (using === 'css selector') return document.querySelector(value);
+                if (using === 'xpath') return document.evaluate(value, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;
+                return null;
+            }
+            function prototypeOf(el) {
+                if (el instanceof HTMLInputElement) return HTMLInputElement.prototype;
+                if (el instanceof HTMLTextAreaElement) return HTMLTextAreaElement.prototype;
+                if (el instanceof HTMLSelectElement) return HTMLSelectElement.prototype;
+                return null;
+            }
+            var elements = fields.map(function (f) { return locate(f[0], f[1]); });
+            elements.forEach(function (el, i) {
+                var proto = el && prototypeOf(el);
+                if (!proto || el.disabled || el.readOnly || el.getClientRects().length === 0) return;
+                Object.getOwnPropertyDescriptor(proto, 'value').set.call(el, fields[i][2]);
+                el.dispatchEvent(new Event('input', { bubbles: true }));
+                el.dispatchEvent(new Event('change', { bubbles: true }));
+            });
+            var failed = [];
+            elements.forEach(function (el, i) {
+                if (!el || !prototypeOf(el) || el.value !== fields[i][2]) failed.push(i);
+            });
+            return failed;
+            """;
+
     protected WebDriver driver;
     protected WaitUtils wait;
     protected Logger log;
     protected String environmentURL;
-    SeleniumConfig config = SeleniumConfig.getInstance();
+    // Elements located by this page object, reused until stale or until the browser navigates
+    protected final ElementCache elements = new ElementCache(DriverFactory::getNavigationCount);
+    protected SeleniumConfig config = SeleniumConfig.getInstance();
     //String environmentURL = config.getEnvironmentURL();
 
+    // Driver and wait engine come from the thread's PageContext, so constructing a page object is cheap
     public BasePageObject() {
-        this.driver = DriverFactory.getDriver();
-        this.wait = new WaitUtils();
+        PageContext context = PageContext.current();
+        this.driver = context.getDriver();
+        this.wait = context.getWaitUtils();
         this.log = LogManager.getLogger(this.getClass());
         this.environmentURL = config.getEnvironmentURL();
     }
 
     /** Open page with given URL */
-    public void openUrl(String url) { driver.get(url); }
+    public void openUrl(String url) { DriverFactory.navigate(url); }
 
     /** Open page with URL from Selenium Config file */
-    public void openUrlFromConfig() { driver.get(environmentURL); }
+    public void openUrlFromConfig() { DriverFactory.navigate(environmentURL); }
 
-    /** Find element using given locator */
+    /**
+     * Find element using given locator. A cached element is returned after a displayed/enabled check;
+     * otherwise the element resolved by the clickable wait is cached and returned, no second lookup.
+     * Content-addressed locators such as table rows are resolved on every call.
+     */
     public WebElement find(By locator) {
-        wait.waitForElementToBeClickable(locator);
-        return driver.findElement(locator);
+        WebElement cached = elements.get(locator);
+        if (cached != null) {
+            try {
+                if (cached.isDisplayed() && cached.isEnabled()) return cached;
+            } catch (StaleElementReferenceException e) {
+                elements.invalidate(locator);
+            }
+        }
+        return elements.put(locator, wait.waitForElementToBeClickable(locator));
+    }
+
+    /**
+     * Run an action on the element. A cached element is used as is; when it is stale or not
+     * interactable the element is re-resolved through the clickable wait and the action retried once.
+     */
+    protected <T> T withElement(By locator, Function<WebElement, T> action) {
+        WebElement cached = elements.get(locator);
+        if (cached != null) {
+            try {
+                return action.apply(cached);
+            } catch (StaleElementReferenceException | ElementNotInteractableException e) {
+                elements.invalidate(locator);
+            }
+        }
+        return action.apply(elements.put(locator, wait.waitForElementToBeClickable(locator)));
+    }
+
+    /** Hit/miss/invalidation counts of this page object's element cache */
+    public ElementCache.Stats getElementCacheStats() {
+        return elements.getStats();
     }
 
     /** Click on element with given locator when it's visible - By */
     public void click(By locator) {
-        //wait.waitForElementToBeClickable(locator);
-        find(locator).click();
+        withElement(locator, element -> {
+            element.click();
+            return null;
+        });
     }
 
     /** Click on element with given locator when it's visible - WebElement */
@@ -58,29 +139,30 @@ public class BasePageObject {
 
     /** Check for element value in DOM structure */
     public String elementValue(By locator) {
-        WebElement element = find(locator);
-        return element.getDomProperty("value");
+        return withElement(locator, element -> element.getDomProperty("value"));
     }
 
     /** Check for element text */
     // e.g. Span elements doesn't have value property in DOM, but it can be obtained by getText()
     public String elementText(By locator) {
-        WebElement element = find(locator);
-        return element.getText();
+        return withElement(locator, WebElement::getText);
     }
 
     /** Check if element is enabled in HTML */
-    public boolean elementEnabled(By locator) { return find(locator).isEnabled(); }
+    public boolean elementEnabled(By locator) { return withElement(locator, WebElement::isEnabled); }
 
     /** Check if element is displayed and enabled in HTML */
+    // The clickable wait already checked both, so there is nothing left to ask the browser
     public boolean isElementClickable(By locator) {
-        wait.waitForElementToBeVisible(locator);
-        WebElement element = find(locator);
-        return element.isDisplayed() && element.isEnabled(); }
+        return find(locator) != null;
+    }
 
     /** Type given text into element with given locator */
     public void type(String text, By locator) {
-        find(locator).sendKeys(text);
+        withElement(locator, element -> {
+            element.sendKeys(text);
+            return null;
+        });
     }
 
     /** Get URL of current page from browser */
@@ -90,39 +172,68 @@ public class BasePageObject {
 
     /** Provide element DOM property */
     public @Nullable String getElementDOMProperty(By locator, String property) {
-        return Optional.ofNullable(find(locator)).map(e -> e.getDomProperty(property)).orElse(null);
+        return withElement(locator, element -> element.getDomProperty(property));
     }
 
     /** Get Page Title of current page from browser */
     public String getPageTitle(By locator) {
-        wait.waitForElementPresence(locator);
-        return find(locator).getText().trim();
+        return withElement(locator, element -> element.getText().trim());
     }
 
     /** Check for element readOnly DOM property */
     public @Nullable String elementReadOnly(By locator) {
-        return find(locator).getDomAttribute("readOnly");
+        return withElement(locator, element -> element.getDomAttribute("readOnly"));
     }
 
-    /** Safe Send Keys to the element */
-    public void safeSendKeys(By locator, CharSequence... keys) {
-        wait.waitForElementToBeVisible(locator);
-        WebElement element = find(locator);
+    /**
+     * Fill several fields in order. KEYS types into each one with safeSendKeys; SCRIPT sets all values
+     * in one executeScript, checks them in the same call and types only the fields that did not keep their value.
+     */
+    protected void fillFields(Map<By, String> values, FormFillMode mode) {
+        Map<By, String> toType = values;
+        if (mode == FormFillMode.SCRIPT) {
+            toType = new LinkedHashMap<>();
+            for (By locator : setValuesByScript(values)) toType.put(locator, values.get(locator));
+            if (!toType.isEmpty()) log.info("Script fill did not stick for {}, typing them", toType.keySet());
+        }
+        toType.forEach((locator, text) -> safeSendKeys(locator, text));
+    }
 
-        // Clean field only in case if first parametar is String
-        if (keys.length == 1 && keys[0] instanceof String) {
-            element.clear();
+    /** Set the values in one executeScript; returns the locators whose field is missing, hidden, read-only or rejected the value */
+    protected List<By> setValuesByScript(Map<By, String> values) {
+        List<By> locators = new ArrayList<>(values.keySet());
+        List<List<Object>> fields = new ArrayList<>();
+        for (By locator : locators) {
+            By.Remotable.Parameters target = locator instanceof By.Remotable remotable
+                    ? remotable.getRemoteParameters() : new By.Remotable.Parameters("unsupported", "");
+            fields.add(List.of(target.using(), String.valueOf(target.value()), values.get(locator)));
         }
 
-        element.sendKeys(keys);
+        List<By> failed = new ArrayList<>();
+        Object result = ((JavascriptExecutor) driver).executeScript(SET_VALUES, fields);
+        for (Object index : (List<?>) result) failed.add(locators.get(((Number) index).intValue()));
+        return failed;
+    }
 
-        // Recovery scenario: Check if element value
-        if (keys.length == 1 && keys[0] instanceof String) {
-            String text = (String) keys[0];
-            if (!text.equals(getElementDOMProperty(locator, "value"))) {
+    /** Safe Send Keys to the element */
+    public void safeSendKeys(By locator, CharSequence... keys) {
+        withElement(locator, element -> {
+            // Clean field only in case if first parametar is String
+            if (keys.length == 1 && keys[0] instanceof String) {
                 element.clear();
-                element.sendKeys(keys);
             }
-        }
+
+            element.sendKeys(keys);
+
+            // Recovery scenario: Check if element value
+            if (keys.length == 1 && keys[0] instanceof String) {
+                String text = (String) keys[0];
+                if (!text.equals(element.getDomProperty("value"))) {
+                    element.clear();
+                    element.sendKeys(keys);
+                }
+            }
+            return null;
+        });
     }
 }
@@ -0,0 +1,70 @@
+package ui.pages.common;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+/**
+ * Elements a page object has already located, keyed by locator. Everything is dropped when the
+ * browser navigates (the navigation counter moves); single entries are dropped when the element
+ * turns out to be stale. Locators marked {@link ContentAddressed} are never cached. Page objects are
+ * used by one test thread, so no synchronization.
+ */
+public class ElementCache {
+    /** Lookups served from the cache, lookups that had to go to the browser, entries dropped */
+    public record Stats(long hits, long misses, long invalidations) { }
+
+    /**
+     * Locator that selects by content the page rewrites in place, such as row text: React reuses the
+     * node, so a cached element can still be displayed and enabled but belong to a different record.
+     */
+    public interface ContentAddressed { }
+
+    private final Map<By, WebElement> elements = new HashMap<>();
+    private final IntSupplier navigationCount;
+    private int navigation;
+    private long hits;
+    private long misses;
+    private long invalidations;
+
+    public ElementCache(IntSupplier navigationCount) {
+        this.navigationCount = navigationCount;
+        this.navigation = navigationCount.getAsInt();
+    }
+
+    /** Whether elements found by this locator may be served from the cache */
+    public static boolean cacheable(By locator) {
+        return !(locator instanceof ContentAddressed);
+    }
+
+    /** Cached element for the locator, or null (counted as a miss) */
+    public WebElement get(By locator) {
+        int current = navigationCount.getAsInt();
+        if (current != navigation) {
+            invalidations += elements.size();
+            elements.clear();
+            navigation = current;
+        }
+        WebElement element = cacheable(locator) ? elements.get(locator) : null;
+        if (element == null) misses++;
+        else hits++;
+        return element;
+    }
+
+    /** Cache the element unless the locator is content-addressed; returns it either way */
+    public WebElement put(By locator, WebElement element) {
+        if (cacheable(locator)) elements.put(locator, element);
+        return element;
+    }
+
+    public void invalidate(By locator) {
+        if (elements.remove(locator) != null) invalidations++;
+    }
+
+    public Stats getStats() {
+        return new Stats(hits, misses, invalidations);
+    }
+}
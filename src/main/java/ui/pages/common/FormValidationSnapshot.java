@@ -0,0 +1,97 @@
+package ui.pages.common;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * HTML5 validation state of every input, select and textarea of a form, read by one executeScript
+ * call instead of a checkValidity and a validationMessage script per field. Fields are keyed by id.
+ * A snapshot is not refreshed; take a new one after the form changes.
+ */
+public final class FormValidationSnapshot {
+    // checkValidity() fires 'invalid' events exactly as the per-field reads did
+    static final String SCRIPT = """
+            return Array.prototype.map.call(arguments[0].querySelectorAll('input, select, textarea'), function (el) {
+                var valid = el.checkValidity();
+                return {
+                    id: el.id,
+                    name: el.name || '',
+                    value: el.value,
+                    valid: valid,
+                    message: valid ? '' : el.validationMessage,
+                    valueMissing: el.validity.valueMissing,
+                    typeMismatch: el.validity.typeMismatch,
+                    patternMismatch: el.validity.patternMismatch
+                };
+            });
+            """;
+
+    /** Validation state of one field; message is empty when the field is valid */
+    public record Field(String id, String name, String value, boolean valid, String message,
+                        boolean valueMissing, boolean typeMismatch, boolean patternMismatch) { }
+
+    private final Map<String, Field> fields;
+
+    private FormValidationSnapshot(Map<String, Field> fields) {
+        this.fields = Collections.unmodifiableMap(fields);
+    }
+
+    /** Read the fields of the given form element */
+    public static FormValidationSnapshot capture(JavascriptExecutor js, WebElement form) {
+        return from((List<?>) js.executeScript(SCRIPT, form));
+    }
+
+    /** Build a snapshot from the executeScript result; fields without an id are keyed by name */
+    static FormValidationSnapshot from(List<?> raw) {
+        Map<String, Field> fields = new LinkedHashMap<>();
+        if (raw != null) {
+            for (Object item : raw) {
+                Map<?, ?> f = (Map<?, ?>) item;
+                Field field = new Field(text(f.get("id")), text(f.get("name")), text(f.get("value")), flag(f.get("valid")),
+                        text(f.get("message")), flag(f.get("valueMissing")), flag(f.get("typeMismatch")), flag(f.get("patternMismatch")));
+                fields.putIfAbsent(field.id().isEmpty() ? field.name() : field.id(), field);
+            }
+        }
+        return new FormValidationSnapshot(fields);
+    }
+
+    public List<Field> fields() {
+        return new ArrayList<>(fields.values());
+    }
+
+    public Optional<Field> field(String id) {
+        return Optional.ofNullable(fields.get(id));
+    }
+
+    /** Field for a By.id locator; empty for other locator types or unknown ids */
+    public Optional<Field> field(By locator) {
+        if (locator instanceof By.Remotable remotable && "id".equals(remotable.getRemoteParameters().using())) {
+            return field(String.valueOf(remotable.getRemoteParameters().value()));
+        }
+        return Optional.empty();
+    }
+
+    public boolean isValid() {
+        return fields.values().stream().allMatch(Field::valid);
+    }
+
+    public List<Field> invalidFields() {
+        return fields.values().stream().filter(f -> !f.valid()).toList();
+    }
+
+    private static String text(Object value) {
+        return value == null ? "" : value.toString();
+    }
+
+    private static boolean flag(Object value) {
+        return Boolean.TRUE.equals(value);
+    }
+}
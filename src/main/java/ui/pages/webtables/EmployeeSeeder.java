@@ -0,0 +1,122 @@
+package ui.pages.webtables;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import ui.models.Employee;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Adds employees through the page's own Add form, driven from inside the browser: one executeAsyncScript
+ * opens the modal, sets the fields, submits and waits for the modal to close for a whole batch of rows.
+ * The app's own handlers do the insert, so the table behaves exactly as after manual entry, without the
+ * ~40 WebDriver commands per employee that clickAddNew, fillForm, submit and waitForNotVisible cost.
+ */
+final class EmployeeSeeder {
+    /** Rows per executeAsyncScript call; keeps each call well inside the script timeout */
+    static final int BATCH = 100;
+    /** Ceiling of a batch's script timeout; a hung step ends its batch after one step timeout anyway */
+    static final Duration MAX_BATCH_TIMEOUT = Duration.ofMinutes(5);
+
+    // arguments: employees (maps keyed like Employee), per-step timeout in ms, callback.
+    // A value longer than the field's maxlength is rejected, as typing could not enter it either.
+    private static final String SEED = """
+            var employees = arguments[0], timeout = arguments[1], done = arguments[arguments.length - 1];
+            var ids = { firstName: 'firstName', lastName: 'lastName', email: 'userEmail', age: 'age', salary: 'salary', department: 'department' };
+            var setValue = Object.getOwnPropertyDescriptor(HTMLInputElement.prototype, 'value').set;
+            var inserted = 0, rejected = [];
+            function until(test, what) {
+                return new Promise(function (resolve, reject) {
+                    var end = Date.now() + timeout;
+                    (function poll() {
+                        var value = test();
+                        if (value) return resolve(value);
+                        if (Date.now() > end) return reject(new Error('timed out waiting for ' + what));
+                        setTimeout(poll, 5);
+                    })();
+                });
+            }
+            (async function () {
+                for (var i = 0; i < employees.length; i++) {
+                    document.getElementById('addNewRecordButton').click();
+                    var form = await until(function () { return document.getElementById('userForm'); }, 'the Add form');
+                    var fits = true;
+                    Object.keys(ids).forEach(function (key) {
+                        var input = document.getElementById(ids[key]);
+                        var value = employees[i][key] == null ? '' : String(employees[i][key]);
+                        if (input.maxLength > 0 && value.length > input.maxLength) fits = false;
+                        setValue.call(input, value);
+                        input.dispatchEvent(new Event('input', { bubbles: true }));
+                        input.dispatchEvent(new Event('change', { bubbles: true }));
+                    });
+                    var accepted = fits && form.checkValidity();
+                    if (accepted) document.getElementById('submit').click();
+                    else document.querySelector('.modal-content button.close').click();
+                    await until(function () { return !document.getElementById('userForm'); }, 'the modal to close');
+                    if (accepted) inserted++;
+                    else rejected.push(i);
+                }
+            })().then(function () {
+                done({ inserted: inserted, rejected: rejected });
+            }, function (e) {
+                done({ inserted: inserted, rejected: rejected, error: String(e && e.message || e) });
+            });
+            """;
+
+    private EmployeeSeeder() { }
+
+    /**
+     * Add the employees in batches of BATCH. The session's script timeout is set for each batch from
+     * its size (see {@link #batchTimeout}) and restored afterwards.
+     */
+    static SeedResult seed(WebDriver driver, List<Employee> employees, Duration stepTimeout) {
+        WebDriver.Timeouts timeouts = driver.manage().timeouts();
+        Duration scriptTimeout = timeouts.getScriptTimeout();
+
+        int inserted = 0;
+        List<Employee> rejected = new ArrayList<>();
+        try {
+            for (int from = 0; from < employees.size(); from += BATCH) {
+                List<Employee> batch = employees.subList(from, Math.min(employees.size(), from + BATCH));
+                timeouts.scriptTimeout(batchTimeout(stepTimeout, batch.size()));
+                Map<?, ?> result = (Map<?, ?>) ((JavascriptExecutor) driver).executeAsyncScript(SEED,
+                        batch.stream().map(EmployeeSeeder::fields).toList(), stepTimeout.toMillis());
+
+                inserted += ((Number) result.get("inserted")).intValue();
+                for (Object index : (List<?>) result.get("rejected")) rejected.add(batch.get(((Number) index).intValue()));
+                if (result.get("error") != null) {
+                    throw new RuntimeException("Seeding stopped after " + inserted + " of " + employees.size()
+                            + " employees: " + result.get("error"));
+                }
+            }
+        } finally {
+            timeouts.scriptTimeout(scriptTimeout);
+        }
+        return new SeedResult(employees.size(), inserted, List.copyOf(rejected));
+    }
+
+    /**
+     * Room for both waits of every row (modal open, modal closed) at the full step timeout, capped at
+     * MAX_BATCH_TIMEOUT but never below three steps, so a long configured timeout still fits one hung step.
+     */
+    static Duration batchTimeout(Duration stepTimeout, int size) {
+        Duration everyStep = stepTimeout.multipliedBy(2L * size + 1);
+        Duration cap = stepTimeout.multipliedBy(3).compareTo(MAX_BATCH_TIMEOUT) > 0 ? stepTimeout.multipliedBy(3) : MAX_BATCH_TIMEOUT;
+        return everyStep.compareTo(cap) < 0 ? everyStep : cap;
+    }
+
+    static Map<String, String> fields(Employee employee) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("firstName", employee.getFirstName());
+        fields.put("lastName", employee.getLastName());
+        fields.put("email", employee.getEmail());
+        fields.put("age", employee.getAge());
+        fields.put("salary", employee.getSalary());
+        fields.put("department", employee.getDepartment());
+        return fields;
+    }
+}
@@ -2,11 +2,17 @@ package ui.pages.webtables;
 
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.Select;
+import ui.models.Employee;
 import ui.pages.common.BasePageObject;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class EmployeeTablePage extends BasePageObject  {
 
@@ -17,8 +23,9 @@ public class EmployeeTablePage extends BasePageObject  {
 
     // Root table
     private static final By tableRoot = By.cssSelector("div.ReactTable");
-    private static final By tbodyRows = By.cssSelector("div.rt-tbody div.rt-tr-group");
-    private static final By loadingOverlay = By.cssSelector("div.-loading");
+    // Selectors for the in-browser settle wait; react-table keeps the overlay in the DOM and marks it -active while loading
+    private static final String TABLE_ROOT_CSS = "div.ReactTable";
+    private static final String ACTIVE_LOADING_CSS = "div.-loading.-active";
     //public static final By rowsInTable = By.cssSelector("div.rt-tbody div.rt-tr-group");
 
     /** ===================================== Pagination / Page size Locators ======================================== */
@@ -26,20 +33,26 @@ public class EmployeeTablePage extends BasePageObject  {
     private static final By pageJumpInput = By.cssSelector("input[aria-label='jump to page']");
     private static final By totalPagesSpan = By.cssSelector("span.-totalPages");
     public static final By nextPageButton = By.cssSelector("button[aria-label='Next Page']");
+    // Selected and largest rows-per-page option of the select passed as arguments[0]
+    private static final String PAGE_SIZES = """
+            var sizes = Array.prototype.map.call(arguments[0].options, function (o) { return parseInt(o.value, 10); });
+            return { current: parseInt(arguments[0].value, 10), largest: Math.max.apply(null, sizes) };
+            """;
+
+    // Rows of the current page, refreshed incrementally; lastSnapshot is the latest read, so
+    // getRowData on an element from getRows needs no further round trips
+    private final TableIndex rowIndex = new TableIndex();
+    private TableSnapshot lastSnapshot;
 
     public EmployeeTablePage(WebDriver driver) {
         super();
     }
 
     By editByFirstName(String firstName) {
-        return By.xpath(
-                "//div[@role='row' and .//div[text()='" + firstName + "']]//span[starts-with(@id,'edit-record')]"
-        );
+        return TableLocators.action(TableLocators.Action.EDIT, firstName);
     }
     By deleteByFirstName(String firstName) {
-        return By.xpath(
-                "//div[@role='row' and .//div[text()='" + firstName + "']]//span[starts-with(@id,'delete-record')]"
-        );
+        return TableLocators.action(TableLocators.Action.DELETE, firstName);
     }
 
     public void clickEdit(String firstName) {
@@ -50,8 +63,7 @@ public class EmployeeTablePage extends BasePageObject  {
     }
 
     public boolean isUserPresent(String firstName, String lastName) {
-        String xpath = "//div[@role='row' and .//div[text()='" + firstName + "'] and .//div[text()='" + lastName + "']]";
-        return !driver.findElements(By.xpath(xpath)).isEmpty();
+        return !driver.findElements(TableLocators.row(firstName, lastName)).isEmpty();
     }
 
     private String getCellTextSafe(List<WebElement> cells, int index) {
@@ -60,12 +72,32 @@ public class EmployeeTablePage extends BasePageObject  {
         return txt == null ? "" : txt.trim();
     }
 
-    public List<WebElement> getRows() {
+    /** Rows of the current page in one executeScript call; only rows changed since the last read are transferred */
+    public TableSnapshot snapshot() {
         waitForLoadingToFinish();
-        return driver.findElements(tbodyRows);
+        lastSnapshot = rowIndex.refresh((JavascriptExecutor) driver);
+        return lastSnapshot;
+    }
+
+    /** Full vs incremental refresh counts of the row index */
+    public TableIndex.Stats getRowIndexStats() {
+        return rowIndex.getStats();
+    }
+
+    public List<WebElement> getRows() {
+        return snapshot().rows().stream().map(TableSnapshot.Row::element).toList();
     }
 
+    /**
+     * Cell texts of a row group. Rows returned by getRows/findRowByFirstAndLastName are answered from
+     * the snapshot they were read with; other elements are read cell by cell.
+     */
     public Map<String, String> getRowData(WebElement rowGroup) {
+        if (lastSnapshot != null) {
+            var row = lastSnapshot.find(rowGroup);
+            if (row.isPresent()) return new LinkedHashMap<>(row.get().data());
+        }
+
         WebElement tr = rowGroup.findElement(By.cssSelector("div.rt-tr"));
         List<WebElement> cells = tr.findElements(By.cssSelector("div.rt-td"));
 
@@ -79,29 +111,50 @@ public class EmployeeTablePage extends BasePageObject  {
         return row;
     }
 
+    /**
+     * Wait until the table has stopped re-rendering: no mutations for domQuietMs and the loading overlay
+     * inactive. Returns as soon as that holds instead of polling for the overlay; bounded by timeout.
+     */
     public void waitForLoadingToFinish() {
-        try {
-            /*
-            wait.until((ExpectedCondition<Boolean>) d -> {
-                List<WebElement> elems = d.findElements(loadingOverlay);
-                if (elems.isEmpty()) return true;
-                return !elems.get(0).isDisplayed();
-            });
-            */
-            wait.waitForElementPresence(loadingOverlay);
-        } catch (Exception ignored) { }
+        if (!wait.waitForDomToSettle(TABLE_ROOT_CSS, ACTIVE_LOADING_CSS)) {
+            log.warn("Table still re-rendering after the {}s timeout, continuing", config.getTimeout().toSeconds());
+        }
     }
 
     public WebElement findRowByFirstAndLastName(String firstName, String lastName) {
-        waitForLoadingToFinish();
-        List<WebElement> rows = getRows();
-        for (WebElement rg : rows) {
-            Map<String, String> data = getRowData(rg);
-            if (firstName.equals(data.get("First Name")) && lastName.equals(data.get("Last Name"))) {
-                return rg;
-            }
+        return snapshot().find(firstName, lastName).map(TableSnapshot.Row::element).orElse(null);
+    }
+
+    public WebElement findRowByEmail(String email) {
+        return snapshot().findByEmail(email).map(TableSnapshot.Row::element).orElse(null);
+    }
+
+    /**
+     * Add employees in bulk through the page's own Add form, driven from inside the browser in batches
+     * (see EmployeeSeeder), so thousands of rows cost a handful of round trips. Afterwards the table is
+     * read once at its largest page size to check that every accepted employee is in it.
+     */
+    public SeedResult seed(List<Employee> employees) {
+        SeedResult result = EmployeeSeeder.seed(driver, employees, config.getTimeout());
+        if (!result.rejected().isEmpty()) {
+            log.warn("{} of {} employees were rejected by the form: {}", result.rejected().size(), result.requested(), result.rejected());
+        }
+        verifySeeded(employees, result);
+        return result;
+    }
+
+    private void verifySeeded(List<Employee> employees, SeedResult result) {
+        Set<Employee> rejected = Collections.newSetFromMap(new IdentityHashMap<>());
+        rejected.addAll(result.rejected());
+        List<Employee> accepted = employees.stream().filter(e -> !rejected.contains(e)).toList();
+        if (accepted.isEmpty()) return;
+
+        Set<String> emails = streamRows(RowPaging.LARGEST_PAGE_SIZE).map(row -> row.get("Email")).collect(Collectors.toSet());
+        List<String> missing = accepted.stream()
+                .map(Employee::getEmail).filter(email -> !emails.contains(email)).distinct().toList();
+        if (!missing.isEmpty()) {
+            throw new RuntimeException("Seeded " + result.inserted() + " employees but the table has no row for " + missing);
         }
-        return null;
     }
 
      // Click on the Add button (if exists)
@@ -112,41 +165,80 @@ public class EmployeeTablePage extends BasePageObject  {
     }
 
     public void clickEditByName(String firstName, String lastName) {
-        WebElement rg = findRowByFirstAndLastName(firstName, lastName);
-        if (rg == null) throw new NoSuchElementException("Row not found for " + firstName + " " + lastName);
-        WebElement tr = rg.findElement(By.cssSelector("div.rt-tr"));
-        WebElement edit = tr.findElement(By.xpath(".//span[contains(@id,'edit-record') or @title='Edit']"));
-        click(edit);
+        click(buttonOf(rowByName(firstName, lastName).edit(), "Edit", firstName + " " + lastName));
     }
 
     public void clickEditByIndex(int index) {
-        List<WebElement> rows = getRows();
-        if (index < 0 || index >= rows.size()) throw new IndexOutOfBoundsException("Row index out of range");
-        WebElement tr = rows.get(index).findElement(By.cssSelector("div.rt-tr"));
-        WebElement edit = tr.findElement(By.xpath(".//span[contains(@id,'edit-record') or @title='Edit']"));
-        click(edit);
+        click(buttonOf(rowByIndex(index).edit(), "Edit", "row " + index));
     }
 
     public void clickDeleteByName(String firstName, String lastName) {
-        WebElement rg = findRowByFirstAndLastName(firstName, lastName);
-        if (rg == null) throw new NoSuchElementException("Row not found for " + firstName + " " + lastName);
-        WebElement tr = rg.findElement(By.cssSelector("div.rt-tr"));
-        WebElement del = tr.findElement(By.xpath(".//span[contains(@id,'delete-record') or @title='Delete']"));
-        click(del);
+        click(buttonOf(rowByName(firstName, lastName).delete(), "Delete", firstName + " " + lastName));
         waitForLoadingToFinish();
     }
 
     public void clickDeleteByIndex(int index) {
-        List<WebElement> rows = getRows();
-        if (index < 0 || index >= rows.size()) throw new IndexOutOfBoundsException("Row index out of range");
-        WebElement tr = rows.get(index).findElement(By.cssSelector("div.rt-tr"));
-        WebElement del = tr.findElement(By.xpath(".//span[contains(@id,'delete-record') or @title='Delete']"));
-        click(del);
+        click(buttonOf(rowByIndex(index).delete(), "Delete", "row " + index));
         waitForLoadingToFinish();
     }
 
+    private TableSnapshot.Row rowByName(String firstName, String lastName) {
+        return snapshot().find(firstName, lastName)
+                .orElseThrow(() -> new NoSuchElementException("Row not found for " + firstName + " " + lastName));
+    }
+
+    private TableSnapshot.Row rowByIndex(int index) {
+        List<TableSnapshot.Row> rows = snapshot().rows();
+        if (index < 0 || index >= rows.size()) throw new IndexOutOfBoundsException("Row index out of range");
+        return rows.get(index);
+    }
+
+    private static WebElement buttonOf(WebElement button, String name, String row) {
+        if (button == null) throw new NoSuchElementException(name + " button not found for " + row);
+        return button;
+    }
+
+    /**
+     * Employee rows of every page, read lazily from page 1: the next page is opened only when the consumer
+     * has used all rows of the current one, so findFirst/anyMatch stop at the page holding the match.
+     * The table is left on that page, so the row's element and buttons stay usable.
+     */
+    public Stream<TableSnapshot.Row> streamRows() {
+        return streamRows(RowPaging.PAGE_BY_PAGE);
+    }
+
+    /**
+     * Employee rows of every page. LARGEST_PAGE_SIZE reads all rows eagerly with the largest rows-per-page
+     * option and then restores the page size and page, so only the rows' data is usable afterwards.
+     */
+    public Stream<TableSnapshot.Row> streamRows(RowPaging paging) {
+        if (paging == RowPaging.LARGEST_PAGE_SIZE) return readWithLargestPageSize().stream();
+        return PagedRows.stream(1, this::getTotalPages, this::loadPage);
+    }
+
+    private List<TableSnapshot.Row> loadPage(int page) {
+        if (page != getCurrentPageNumber()) goToPage(page);
+        return snapshot().dataRows();
+    }
+
+    private List<TableSnapshot.Row> readWithLargestPageSize() {
+        Map<?, ?> sizes = (Map<?, ?>) ((JavascriptExecutor) driver).executeScript(PAGE_SIZES, find(pageSizeSelect));
+        int original = ((Number) sizes.get("current")).intValue();
+        int largest = ((Number) sizes.get("largest")).intValue();
+        int originalPage = getCurrentPageNumber();
+        boolean resize = largest != original;
+
+        if (resize) setRowsPerPage(largest);
+        try {
+            return PagedRows.stream(1, this::getTotalPages, this::loadPage).toList();
+        } finally {
+            if (resize) setRowsPerPage(original);
+            if (getCurrentPageNumber() != originalPage) goToPage(originalPage);
+        }
+    }
+
     public int getVisibleRowCount() {
-        return getRows().size();
+        return snapshot().size();
     }
     public int getCurrentPageNumber() {
         try {
@@ -0,0 +1,58 @@
+package ui.pages.webtables;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazy iteration over the rows of a paginated table. A page is loaded only when the consumer has used
+ * every row of the previous one, and the page count is read once, when the first page runs out,
+ * so a short-circuiting stream operation touches as few pages as possible.
+ */
+final class PagedRows implements Iterator<TableSnapshot.Row> {
+    private final IntSupplier totalPages;
+    private final IntFunction<List<TableSnapshot.Row>> loadPage;
+    private int page;
+    private int lastPage = -1;
+    private Iterator<TableSnapshot.Row> current;
+
+    /**
+     * @param firstPage  1-based page to start from
+     * @param totalPages page count, asked once when the first page is exhausted
+     * @param loadPage   shows the given 1-based page and returns its rows
+     */
+    PagedRows(int firstPage, IntSupplier totalPages, IntFunction<List<TableSnapshot.Row>> loadPage) {
+        this.page = firstPage - 1;
+        this.totalPages = totalPages;
+        this.loadPage = loadPage;
+    }
+
+    static Stream<TableSnapshot.Row> stream(int firstPage, IntSupplier totalPages, IntFunction<List<TableSnapshot.Row>> loadPage) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(
+                new PagedRows(firstPage, totalPages, loadPage), Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (current == null || !current.hasNext()) {
+            if (current != null) {
+                if (lastPage < 0) lastPage = totalPages.getAsInt();
+                if (page >= lastPage) return false;
+            }
+            current = loadPage.apply(++page).iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public TableSnapshot.Row next() {
+        if (!hasNext()) throw new NoSuchElementException("No more table rows after page " + page);
+        return current.next();
+    }
+}
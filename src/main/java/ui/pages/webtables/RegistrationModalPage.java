@@ -3,8 +3,13 @@ package ui.pages.webtables;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import ui.core.config.FormFillMode;
 import ui.pages.common.BasePageObject;
+import ui.pages.common.FormValidationSnapshot;
 import org.openqa.selenium.By;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 
 public class RegistrationModalPage extends BasePageObject {
@@ -12,6 +17,7 @@ public class RegistrationModalPage extends BasePageObject {
     private final By modalContent = By.cssSelector("div.modal-content");
     private final By closeButton = By.cssSelector("button.close");
     private final By submitButton = By.cssSelector("button#submit");
+    private final By userForm = By.id("userForm");
 
     // Field locators by id
     public final By firstNameInput = By.id("firstName");
@@ -87,11 +93,35 @@ public class RegistrationModalPage extends BasePageObject {
         }
     }
 
+    /**
+     * Validity, validationMessage, validity flags and value of every form field in one script.
+     * Read afresh on every call: the form also changes through other page objects and the Edit prefill.
+     */
+    public FormValidationSnapshot validation() {
+        return withElement(userForm, form -> FormValidationSnapshot.capture((JavascriptExecutor) driver, form));
+    }
+
+    /** validationMessage of all six fields, keyed by their locators, from one validation() read */
+    public Map<By, String> validationMessages() {
+        FormValidationSnapshot snapshot = validation();
+        Map<By, String> messages = new LinkedHashMap<>();
+        for (By input : List.of(firstNameInput, lastNameInput, emailInput, ageInput, salaryInput, departmentInput)) {
+            FormValidationSnapshot.Field field = snapshot.field(input)
+                    .orElseThrow(() -> new RuntimeException("Registration form has no field " + input));
+            messages.put(input, field.message());
+        }
+        return messages;
+    }
+
     /**
      * Vraća HTML5 validationMessage za polje; ako je polje validno vraća prazan string.
-     * Radi tako što poziva checkValidity() i vraća validationMessage.
+     * Polja forme se čitaju iz novog validation(); ostali lokatori pozivaju checkValidity() i validationMessage.
+     * Za više polja odjednom koristi validationMessages().
      */
     public String getFieldValidationMessage(By inputLocator) {
+        var field = validation().field(inputLocator);
+        if (field.isPresent()) return field.get().message();
+
         WebElement element = find(inputLocator);
         JavascriptExecutor js = (JavascriptExecutor) driver;
 
@@ -111,14 +141,22 @@ public class RegistrationModalPage extends BasePageObject {
     public String salaryValidationMessage() { return getFieldValidationMessage(salaryInput); }
     public String departmentValidationMessage() { return getFieldValidationMessage(departmentInput); }
 
-    // Fill the Registration Form without submitting
+    // Fill the Registration Form without submitting, the way formFillMode in selenium-config.xml says
     public void fillForm(String firstName, String lastName, String email, String age, String salary, String department) {
-        setFirstName(firstName);
-        setLastName(lastName);
-        setEmail(email);
-        setAge(age);
-        setSalary(salary);
-        setDepartment(department);
+        fillForm(firstName, lastName, email, age, salary, department, config.getFormFillMode());
+    }
+
+    // SCRIPT sets all six fields in one call and types only the ones that did not take the value
+    public void fillForm(String firstName, String lastName, String email, String age, String salary, String department,
+                         FormFillMode mode) {
+        Map<By, String> values = new LinkedHashMap<>();
+        values.put(firstNameInput, firstName);
+        values.put(lastNameInput, lastName);
+        values.put(emailInput, email);
+        values.put(ageInput, age);
+        values.put(salaryInput, salary);
+        values.put(departmentInput, department);
+        fillFields(values, mode);
     }
 
     // Wait until modal is not visible (after successful submit)
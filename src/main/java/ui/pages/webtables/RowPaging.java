@@ -0,0 +1,9 @@
+package ui.pages.webtables;
+
+/** How EmployeeTablePage.streamRows walks a paginated table */
+public enum RowPaging {
+    /** Read one page at a time, moving to the next only when the consumer needs more rows */
+    PAGE_BY_PAGE,
+    /** Switch to the largest rows-per-page option, read everything, then restore the page size and page */
+    LARGEST_PAGE_SIZE
+}
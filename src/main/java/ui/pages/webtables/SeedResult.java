@@ -0,0 +1,12 @@
+package ui.pages.webtables;
+
+import ui.models.Employee;
+
+import java.util.List;
+
+/**
+ * Outcome of EmployeeTablePage.seed
+ *
+ * @param rejected employees the form refused (failed HTML5 validation or too long for a field)
+ */
+public record SeedResult(int requested, int inserted, List<Employee> rejected) { }
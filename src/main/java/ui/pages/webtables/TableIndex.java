@@ -0,0 +1,116 @@
+package ui.pages.webtables;
+
+import org.openqa.selenium.JavascriptExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Incrementally refreshed copy of the employee table. A MutationObserver installed in the page
+ * records which row groups changed since the last refresh, and refresh() pulls only those rows in
+ * its single executeScript call. A full read happens on the first call, after navigation or a
+ * re-created table body, when row groups were added to or removed from the body other than by an
+ * in-place replacement (which shifts the position of later rows even when their number stays the
+ * same), or when another index read the table in between. Lookups by name and email are hash
+ * lookups on the resulting TableSnapshot.
+ */
+public final class TableIndex {
+    /** Refreshes that read every row, refreshes that read only changed rows, rows pulled in total */
+    public record Stats(long fullRefreshes, long incrementalRefreshes, long rowsRead) { }
+
+    // arguments[0] is the index token, arguments[1] forces a full read; the observer state lives on window and dies with the document
+    static final String SCRIPT = TableSnapshot.READ_GROUP + """
+            var token = arguments[0], force = arguments[1];
+            var tbody = document.querySelector('div.rt-tbody');
+            if (!tbody) return { full: true, count: 0, rows: [] };
+            var state = window.__employeeRowIndex;
+            if (!state || state.tbody !== tbody) {
+                if (state) state.observer.disconnect();
+                state = window.__employeeRowIndex = { tbody: tbody, dirty: new Set(), shifted: false, token: null, count: -1 };
+                state.note = function (records) {
+                    records.forEach(function (record) {
+                        var node = record.target.nodeType === 1 ? record.target : record.target.parentElement;
+                        if (node === tbody) {
+                            // replaceChild keeps every other group in place; any other insert or removal moves later rows
+                            if (record.addedNodes.length !== record.removedNodes.length) state.shifted = true;
+                            record.addedNodes.forEach(function (added) { state.dirty.add(added); });
+                        } else {
+                            var group = node && node.closest('div.rt-tr-group');
+                            if (group) state.dirty.add(group);
+                        }
+                    });
+                };
+                state.observer = new MutationObserver(state.note);
+                state.observer.observe(tbody, { childList: true, subtree: true, characterData: true, attributes: true, attributeFilter: ['id'] });
+            }
+            state.note(state.observer.takeRecords());
+
+            var groups = Array.prototype.slice.call(tbody.querySelectorAll('div.rt-tr-group'));
+            var full = force || state.shifted || state.token !== token || state.count !== groups.length;
+            var rows = [];
+            groups.forEach(function (group, index) {
+                if (full || state.dirty.has(group)) {
+                    var row = readGroup(group);
+                    row.index = index;
+                    rows.push(row);
+                }
+            });
+            state.dirty.clear();
+            state.shifted = false;
+            state.token = token;
+            state.count = groups.length;
+            return { full: full, count: groups.length, rows: rows };
+            """;
+
+    private final String token = UUID.randomUUID().toString();
+    private List<TableSnapshot.Row> rows = List.of();
+    private long fullRefreshes;
+    private long incrementalRefreshes;
+    private long rowsRead;
+
+    /** Bring the index up to date with the table in the browser: one round trip, changed rows only */
+    public TableSnapshot refresh(JavascriptExecutor js) {
+        Map<?, ?> result = (Map<?, ?>) js.executeScript(SCRIPT, token, false);
+        if (needsFullRead(result)) result = (Map<?, ?>) js.executeScript(SCRIPT, token, true);
+        return apply(result);
+    }
+
+    // An incremental result must line up with the rows held; otherwise merging it would misplace rows
+    boolean needsFullRead(Map<?, ?> result) {
+        if (Boolean.TRUE.equals(result.get("full"))) return false;
+        int count = ((Number) result.get("count")).intValue();
+        if (count != rows.size()) return true;
+        for (Object item : (List<?>) result.get("rows")) {
+            if (((Number) ((Map<?, ?>) item).get("index")).intValue() >= count) return true;
+        }
+        return false;
+    }
+
+    /** Merge a SCRIPT result: {full, count, rows: [readGroup result + index]} */
+    TableSnapshot apply(Map<?, ?> result) {
+        boolean full = Boolean.TRUE.equals(result.get("full"));
+        int count = ((Number) result.get("count")).intValue();
+        List<?> changed = (List<?>) result.get("rows");
+
+        List<TableSnapshot.Row> merged = full ? new ArrayList<>(count) : new ArrayList<>(rows);
+        for (Object item : changed) {
+            Map<?, ?> raw = (Map<?, ?>) item;
+            int index = ((Number) raw.get("index")).intValue();
+            TableSnapshot.Row row = TableSnapshot.row(index, raw);
+            if (index < merged.size()) merged.set(index, row);
+            else merged.add(row);
+        }
+
+        if (full) fullRefreshes++;
+        else incrementalRefreshes++;
+        rowsRead += changed.size();
+        rows = merged;
+        return new TableSnapshot(merged);
+    }
+
+    public Stats getStats() {
+        return new Stats(fullRefreshes, incrementalRefreshes, rowsRead);
+    }
+}
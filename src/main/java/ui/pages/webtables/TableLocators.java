@@ -0,0 +1,167 @@
+package ui.pages.webtables;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+import ui.pages.common.ElementCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Locators for employee rows and their Edit/Delete buttons. Names are never spliced into a selector
+ * as they are: the preferred lookups select rows by CSS and compare cell text in the browser, with
+ * the names passed as script arguments. The XPath forms come from templates parsed once that quote
+ * every value (concat() for literals that contain both quote characters).
+ */
+public final class TableLocators {
+    public enum Action {
+        EDIT("edit-record-"), DELETE("delete-record-");
+
+        private final String idPrefix;
+
+        Action(String idPrefix) {
+            this.idPrefix = idPrefix;
+        }
+    }
+
+    // Row groups whose first (and, when given, second) cell text equals the arguments; with an id prefix, their button instead
+    static final String FIND_ROWS = """
+            var root = arguments[0] || document, prefix = arguments[1], first = arguments[2], last = arguments[3];
+            var groups = root.querySelectorAll('div.rt-tbody div.rt-tr-group');
+            var found = [];
+            for (var i = 0; i < groups.length; i++) {
+                var cells = groups[i].querySelectorAll('div.rt-td');
+                if (cells.length < 2 || cells[0].textContent.trim() !== first) continue;
+                if (last !== null && cells[1].textContent.trim() !== last) continue;
+                if (!prefix) { found.push(groups[i]); continue; }
+                var button = groups[i].querySelector('span[id^="' + prefix + '"]');
+                if (button) found.push(button);
+            }
+            return found;
+            """;
+
+    // Anchored on the cell position rather than scanning every descendant div for its text
+    static final Template ROW_XPATH = Template.xpath(
+            "//div[@role='rowgroup'][div[@role='row']/div[@role='gridcell'][1]={0} and div[@role='row']/div[@role='gridcell'][2]={1}]");
+    static final Template ACTION_XPATH = Template.xpath(
+            "//div[@role='rowgroup'][div[@role='row']/div[@role='gridcell'][1]={1}]//span[starts-with(@id,{0})]");
+
+    private TableLocators() { }
+
+    /** Row group of the employee with this first and last name */
+    public static By row(String firstName, String lastName) {
+        return new ByRowText(null, firstName, lastName);
+    }
+
+    /** Edit or Delete button of the rows whose first name matches */
+    public static By action(Action action, String firstName) {
+        return new ByRowText(action, firstName, null);
+    }
+
+    /** Button of a known record id, the cheapest lookup when the id is at hand */
+    public static By action(Action action, int recordId) {
+        return By.id(action.idPrefix + recordId);
+    }
+
+    /** XPath equivalent of {@link #row(String, String)} for contexts that need a remotable locator */
+    public static By rowXPath(String firstName, String lastName) {
+        return ROW_XPATH.with(firstName, lastName);
+    }
+
+    /** XPath equivalent of {@link #action(Action, String)} */
+    public static By actionXPath(Action action, String firstName) {
+        return ACTION_XPATH.with(action.idPrefix, firstName);
+    }
+
+    /** XPath string literal for any value: 'a', "a'b" or concat('a', "'", 'b"c') */
+    static String xpathLiteral(String value) {
+        if (value.indexOf('\'') < 0) return "'" + value + "'";
+        if (value.indexOf('"') < 0) return "\"" + value + "\"";
+        StringBuilder literal = new StringBuilder("concat(");
+        String[] parts = value.split("'", -1);
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) literal.append(", \"'\", ");
+            literal.append('\'').append(parts[i]).append('\'');
+        }
+        return literal.append(')').toString();
+    }
+
+    /** XPath with {0}, {1}... placeholders, split once; each value is inserted as a quoted literal */
+    static final class Template {
+        private static final Pattern PLACEHOLDER = Pattern.compile("\\{(\\d+)}");
+
+        private final String pattern;
+        private final List<String> parts = new ArrayList<>();
+        private final List<Integer> indexes = new ArrayList<>();
+
+        private Template(String pattern) {
+            this.pattern = pattern;
+            Matcher m = PLACEHOLDER.matcher(pattern);
+            int last = 0;
+            while (m.find()) {
+                parts.add(pattern.substring(last, m.start()));
+                indexes.add(Integer.parseInt(m.group(1)));
+                last = m.end();
+            }
+            parts.add(pattern.substring(last));
+        }
+
+        static Template xpath(String pattern) {
+            return new Template(pattern);
+        }
+
+        String format(String... values) {
+            StringBuilder selector = new StringBuilder(parts.get(0));
+            for (int i = 0; i < indexes.size(); i++) {
+                int index = indexes.get(i);
+                if (index >= values.length) {
+                    throw new IllegalArgumentException("No value for {" + index + "} in " + pattern);
+                }
+                selector.append(xpathLiteral(values[index])).append(parts.get(i + 1));
+            }
+            return selector.toString();
+        }
+
+        By with(String... values) {
+            return By.xpath(format(values));
+        }
+    }
+
+    // Not remotable: the driver hands it the search context and it runs FIND_ROWS there.
+    // Rows are re-rendered in place, so page objects never serve it from their element cache.
+    private static final class ByRowText extends By implements ElementCache.ContentAddressed {
+        private final Action action;
+        private final String firstName;
+        private final String lastName;
+
+        ByRowText(Action action, String firstName, String lastName) {
+            this.action = action;
+            this.firstName = firstName;
+            this.lastName = lastName;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public List<WebElement> findElements(SearchContext context) {
+            WebElement root = context instanceof WebElement element ? element : null;
+            Object driver = root instanceof WrapsDriver wraps ? wraps.getWrappedDriver() : context;
+            if (!(driver instanceof JavascriptExecutor js)) {
+                throw new IllegalArgumentException("Row lookups need a JavascriptExecutor: " + context);
+            }
+            Object found = js.executeScript(FIND_ROWS, root, action == null ? null : action.idPrefix, firstName, lastName);
+            return found == null ? List.of() : (List<WebElement>) found;
+        }
+
+        @Override
+        public String toString() {
+            String name = lastName == null ? firstName : firstName + " " + lastName;
+            return "By.rowText: " + (action == null ? "" : action.name().toLowerCase(Locale.ROOT) + " of ") + name;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package ui.pages.webtables;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Every row group of the employee table as read by one executeScript call: cell texts, the row
+ * element and its edit/delete buttons. Reading it costs one round trip however many rows are shown,
+ * instead of a findElement, a findElements and six getText calls per row.
+ * A snapshot is not refreshed; take a new one after the table re-renders.
+ */
+public final class TableSnapshot {
+    /** Column keys in table order, as used by EmployeeTablePage.getRowData */
+    public static final List<String> COLUMNS = List.of("First Name", "Last Name", "Age", "Email", "Salary", "Department");
+
+    // Reads one row group; shared with TableIndex.SCRIPT
+    static final String READ_GROUP = """
+            function readGroup(group) {
+                var tr = group.querySelector('div.rt-tr');
+                var cells = tr ? tr.querySelectorAll('div.rt-td') : [];
+                return {
+                    element: group,
+                    cells: Array.prototype.map.call(cells, function (td) { return (td.innerText || '').trim(); }),
+                    edit: group.querySelector("span[id^='edit-record'], span[title='Edit']"),
+                    delete: group.querySelector("span[id^='delete-record'], span[title='Delete']")
+                };
+            }
+            """;
+
+    // Row groups include React Table's empty padding rows; their cells hold only whitespace
+    static final String SCRIPT = READ_GROUP + """
+            return Array.prototype.map.call(document.querySelectorAll('div.rt-tbody div.rt-tr-group'), readGroup);
+            """;
+
+    /**
+     * One row group of the table
+     *
+     * @param index  position among the row groups on the current page, padding rows included
+     * @param edit   null for padding rows
+     * @param delete null for padding rows
+     */
+    public record Row(int index, WebElement element, Map<String, String> data, WebElement edit, WebElement delete) {
+        public String get(String column) {
+            return data.getOrDefault(column, "");
+        }
+
+        /** Empty filler row React Table renders up to the page size */
+        public boolean isPadding() {
+            return get("First Name").isBlank() && get("Last Name").isBlank();
+        }
+    }
+
+    private final List<Row> rows;
+    // First row wins for duplicate keys, as a top-down scan would find it
+    private final Map<String, Row> byName = new HashMap<>();
+    private final Map<String, Row> byEmail = new HashMap<>();
+
+    TableSnapshot(List<Row> rows) {
+        this.rows = Collections.unmodifiableList(rows);
+        for (Row row : rows) {
+            if (row.isPadding()) continue;
+            byName.putIfAbsent(nameKey(row.get("First Name"), row.get("Last Name")), row);
+            byEmail.putIfAbsent(row.get("Email"), row);
+        }
+    }
+
+    /** Read the table currently rendered in the browser */
+    public static TableSnapshot capture(JavascriptExecutor js) {
+        return from((List<?>) js.executeScript(SCRIPT));
+    }
+
+    /** Build a snapshot from the executeScript result: a list of {element, cells, edit, delete} maps */
+    static TableSnapshot from(List<?> raw) {
+        List<Row> rows = new ArrayList<>(raw == null ? 0 : raw.size());
+        if (raw != null) {
+            for (Object item : raw) rows.add(row(rows.size(), (Map<?, ?>) item));
+        }
+        return new TableSnapshot(rows);
+    }
+
+    /** One readGroup result */
+    static Row row(int index, Map<?, ?> raw) {
+        List<?> cells = (List<?>) raw.get("cells");
+        Map<String, String> data = new LinkedHashMap<>();
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            data.put(COLUMNS.get(i), i < cells.size() && cells.get(i) != null ? cells.get(i).toString() : "");
+        }
+        return new Row(index, (WebElement) raw.get("element"), Collections.unmodifiableMap(data),
+                (WebElement) raw.get("edit"), (WebElement) raw.get("delete"));
+    }
+
+    /** All row groups, padding rows included */
+    public List<Row> rows() {
+        return rows;
+    }
+
+    /** Rows that hold an employee */
+    public List<Row> dataRows() {
+        return rows.stream().filter(r -> !r.isPadding()).toList();
+    }
+
+    /** Number of row groups, padding rows included (what getRows().size() used to report) */
+    public int size() {
+        return rows.size();
+    }
+
+    public Optional<Row> find(String firstName, String lastName) {
+        return Optional.ofNullable(byName.get(nameKey(firstName, lastName)));
+    }
+
+    public Optional<Row> findByEmail(String email) {
+        return Optional.ofNullable(byEmail.get(email));
+    }
+
+    /** Row whose row-group element is the given one; WebElements compare by their remote id */
+    public Optional<Row> find(WebElement rowGroup) {
+        return rows.stream().filter(r -> rowGroup.equals(r.element())).findFirst();
+    }
+
+    private static String nameKey(String firstName, String lastName) {
+        return firstName + '\u0000' + lastName;
+    }
+}
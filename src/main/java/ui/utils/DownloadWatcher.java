@@ -0,0 +1,203 @@
+package ui.utils;
+
+import org.openqa.selenium.TimeoutException;
+import ui.core.config.SeleniumConfig;
+import ui.core.driver.DriverFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Waits for downloads with a WatchService on the download directory, so it wakes when the browser
+ * creates, writes or renames a file instead of on a polling interval. A file is complete when it has
+ * the expected name (or the browser's "name (1).ext" variant), no .part/.crdownload/.tmp sibling is
+ * left and its size and modification time have not changed for the stable window.
+ * Open it before triggering the download; files already in the directory are picked up as well.
+ */
+public final class DownloadWatcher implements AutoCloseable {
+    private static final Set<String> TEMP_SUFFIXES = Set.of(".part", ".crdownload", ".tmp", ".download");
+    // Upper bound on one blocking wait: remote (grid) downloads only appear after a sync, and some
+    // platforms implement WatchService by polling
+    private static final Duration MAX_IDLE = Duration.ofMillis(500);
+
+    private final Path dir;
+    private final Duration stableWindow;
+    private final WatchService watchService;
+    private final Map<Path, Observation> observed = new HashMap<>();
+
+    // Size and modification time of a candidate, and when either last changed
+    private record Observation(long size, long modified, long sinceNanos) { }
+
+    private DownloadWatcher(Path dir, Duration stableWindow) throws IOException {
+        this.dir = dir;
+        this.stableWindow = stableWindow;
+        Files.createDirectories(dir);
+        this.watchService = dir.getFileSystem().newWatchService();
+        dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE);
+    }
+
+    /** Watch dir with the configured downloadStableMs */
+    public static DownloadWatcher watch(Path dir) {
+        return watch(dir, SeleniumConfig.getInstance().getDownloadStableWindow());
+    }
+
+    public static DownloadWatcher watch(Path dir, Duration stableWindow) {
+        try {
+            return new DownloadWatcher(dir, stableWindow);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot watch download directory " + dir, e);
+        }
+    }
+
+    /**
+     * Wait for one completed download.
+     *
+     * @throws TimeoutException when it is not complete within the timeout
+     */
+    public Path await(String expectedFilename, Duration timeout) {
+        return awaitAll(List.of(expectedFilename), timeout).get(expectedFilename);
+    }
+
+    /**
+     * Wait until every expected file has completed; returns the files by expected name, in the given order.
+     *
+     * @throws TimeoutException naming the files still missing or in progress
+     */
+    public Map<String, Path> awaitAll(List<String> expectedFilenames, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        Map<String, Path> complete = new LinkedHashMap<>();
+        while (true) {
+            DriverFactory.syncRemoteDownloads(dir);
+            long now = System.nanoTime();
+            long nextCheck = now + MAX_IDLE.toNanos();
+            List<String> files = list();
+            for (String expected : expectedFilenames) {
+                if (complete.containsKey(expected)) continue;
+                Path file = match(files, expected);
+                if (file == null) continue;
+                Observation o = observe(file, now);
+                if (o == null) continue;
+                long stableAt = o.sinceNanos() + stableWindow.toNanos();
+                if (stableAt <= now && !inProgress(files, file)) {
+                    complete.put(expected, file);
+                } else {
+                    nextCheck = Math.min(nextCheck, Math.max(stableAt, now + 1));
+                }
+            }
+            if (complete.size() == expectedFilenames.size()) {
+                Map<String, Path> ordered = new LinkedHashMap<>();
+                expectedFilenames.forEach(name -> ordered.put(name, complete.get(name)));
+                return ordered;
+            }
+            if (now >= deadline) {
+                List<String> missing = expectedFilenames.stream().filter(name -> !complete.containsKey(name)).toList();
+                throw new TimeoutException("Downloads not complete after " + timeout.toMillis() + " ms in " + dir + ": " + missing);
+            }
+            awaitEvent(Math.min(nextCheck, deadline) - now);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close download watcher for " + dir, e);
+        }
+    }
+
+    // --------------------------------------- PRIVATE HELPERS ----------------------------------------
+
+    // Block until the directory changes or the wait elapses; events only wake us, the next pass re-reads the directory
+    private void awaitEvent(long nanos) {
+        try {
+            WatchKey key = watchService.poll(Math.max(1, nanos), TimeUnit.NANOSECONDS);
+            if (key != null) {
+                key.pollEvents();
+                key.reset();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for downloads in " + dir, e);
+        } catch (ClosedWatchServiceException e) {
+            throw new IllegalStateException("Download watcher for " + dir + " is closed", e);
+        }
+    }
+
+    private List<String> list() {
+        List<String> names = new ArrayList<>();
+        try (DirectoryStream<Path> ds = Files.newDirectoryStream(dir)) {
+            for (Path p : ds) names.add(p.getFileName().toString());
+        } catch (IOException e) {
+            // Directory being rewritten by a sync; the next pass lists it again
+        }
+        return names;
+    }
+
+    // The expected name, else the browser's de-duplicated variant ("name (1).ext" or "name(1).ext")
+    static String matchName(List<String> files, String expected) {
+        if (files.contains(expected)) return expected;
+        int dot = expected.lastIndexOf('.');
+        String stem = dot > 0 ? expected.substring(0, dot) : expected;
+        String ext = dot > 0 ? expected.substring(dot) : "";
+        for (String name : files) {
+            if (name.length() > stem.length() + ext.length() && name.startsWith(stem) && name.endsWith(ext)
+                    && name.substring(stem.length(), name.length() - ext.length()).matches(" ?\\(\\d+\\)")) {
+                return name;
+            }
+        }
+        return null;
+    }
+
+    private Path match(List<String> files, String expected) {
+        String name = matchName(files, expected);
+        return name == null || isTemp(name) ? null : dir.resolve(name);
+    }
+
+    static boolean isTemp(String name) {
+        String lower = name.toLowerCase(Locale.ROOT);
+        return TEMP_SUFFIXES.stream().anyMatch(lower::endsWith);
+    }
+
+    // Firefox writes into name.part next to an empty name; Chrome renames name.crdownload when done
+    private static boolean inProgress(List<String> files, Path file) {
+        String name = file.getFileName().toString();
+        return TEMP_SUFFIXES.stream().anyMatch(suffix -> files.contains(name + suffix));
+    }
+
+    private Observation observe(Path file, long now) {
+        long size;
+        long modified;
+        try {
+            size = Files.size(file);
+            modified = Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            observed.remove(file);
+            return null;
+        }
+        Observation previous = observed.get(file);
+        if (previous != null && previous.size() == size && previous.modified() == modified) return previous;
+        // First sight of a file: its modification time already tells how long it has been unchanged
+        long unchanged = previous == null ? Math.max(0, System.currentTimeMillis() - modified) : 0;
+        Observation current = new Observation(size, modified, now - Math.min(unchanged, stableWindow.toMillis()) * 1_000_000);
+        observed.put(file, current);
+        return current;
+    }
+}
@@ -1,5 +1,7 @@
 package ui.utils;
 
+import org.openqa.selenium.TimeoutException;
+
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -41,23 +43,26 @@ public class FileHelper {
         return HexFormat.of().formatHex(digest);
     }
 
-    // Wait until a file matching the given filename (or prefix/suffix if needed) appears in dir.
-    public static Path waitForFile(Path dir, String expectedFilename, Duration timeout) throws InterruptedException {
-        long end = System.currentTimeMillis() + timeout.toMillis();
-        while (System.currentTimeMillis() < end) {
-            Path candidate = dir.resolve(expectedFilename);
-            if (Files.exists(candidate) && Files.isRegularFile(candidate)) {
-                return candidate;
+    // Wait until the download of expectedFilename (or the browser's "name (1).ext" variant) is complete in dir; null on timeout.
+    public static Path waitForFile(Path dir, String expectedFilename, Duration timeout) {
+        try (DownloadWatcher watcher = DownloadWatcher.watch(dir)) {
+            return watcher.await(expectedFilename, timeout);
+        } catch (TimeoutException e) {
+            return null;
+        }
+    }
+
+    // File named expectedFilename in dir, else the first regular file whose name contains it; null when there is none.
+    public static Path findFile(Path dir, String expectedFilename) throws IOException {
+        Path candidate = dir.resolve(expectedFilename);
+        if (Files.exists(candidate) && Files.isRegularFile(candidate)) {
+            return candidate;
+        }
+        // Support partial matches: sometimes browser appends (1) etc.
+        try (DirectoryStream<Path> ds = Files.newDirectoryStream(dir)) {
+            for (Path p : ds) {
+                if (p.getFileName().toString().contains(expectedFilename) && Files.isRegularFile(p)) return p;
             }
-            // Support partial matches: sometimes browser appends (1) etc.
-            try (DirectoryStream<Path> ds = Files.newDirectoryStream(dir)) {
-                for (Path p : ds) {
-                    if (p.getFileName().toString().startsWith(expectedFilename) || p.getFileName().toString().contains(expectedFilename)) {
-                        if (Files.isRegularFile(p)) return p;
-                    }
-                }
-            } catch (IOException ignored) {}
-            Thread.sleep(250);
         }
         return null;
     }
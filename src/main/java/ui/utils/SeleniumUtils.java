@@ -1,60 +1,85 @@
 package ui.utils;
 
 import org.testng.annotations.*;
+import testdata.TestDataFactory;
 import ui.core.config.SeleniumConfig;
 import ui.core.driver.DriverFactory;
+import ui.core.wait.PageContext;
 import ui.core.wait.WaitUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.WebDriver;
-import org.testng.ITestContext;
+import org.testng.ITestResult;
+import org.testng.Reporter;
 import java.io.IOException;
 import java.nio.file.Path;
 
+/**
+ * Base class for UI tests. Driver and wait state are kept per thread, so one test class instance
+ * can safely run its methods in parallel (parallelMode=methods in selenium-config.xml).
+ */
 public class SeleniumUtils {
-    protected WebDriver driver;
-    protected WaitUtils waitUtils;
-    protected String testName;
-    protected Logger log;
+    // Created on first use, so only suites that ask for UI test data read the seed
+    private static final class TestData {
+        private static final TestDataFactory FACTORY = SeleniumConfig.getInstance().getTestDataSeed().isPresent()
+                ? TestDataFactory.seeded(SeleniumConfig.getInstance().getTestDataSeed().getAsLong()) : TestDataFactory.get();
+    }
+
+    // Per class and never reassigned; a per-test logger in a field would be overwritten by parallel methods
+    protected final Logger log = LogManager.getLogger(getClass());
 
+    // Without a "browser" suite parameter, DriverFactory uses browserName from selenium-config.xml,
+    // the same browser DriverPrewarmer starts
     @Parameters({ "browser" })
     @BeforeMethod(alwaysRun=true)
-    public void setUp(@Optional("firefox") String browser, ITestContext ctx) throws IOException {
-        testName = ctx.getCurrentXmlTest().getName();
-        //this.browserName = config.getBrowserName();
-        //this.browserName = ctx.getCurrentXmlTest().getParameter("browser");
-        //this.browserName = (browser != null && !browser.isEmpty()) ? browser : "firefox";
-        log = LogManager.getLogger(testName);
-
+    public void setUp(@Optional("") String browser) throws IOException {
+        // New browser per test, or a leased one when driverPool is enabled
         DriverFactory factory = new DriverFactory(browser);
-        factory.createDriver();
-        driver = factory.getDriver();
-
-        // Initialize WaitUtils with the driver
-        waitUtils = new WaitUtils();
+        factory.acquireDriver();
 
         cleanupAllDownloads();
     }
 
     @AfterMethod(alwaysRun = true)
     public void tearDownAfterEach() throws IOException {
-        Path downloadDir = SeleniumConfig.getInstance().getDownloadDir();
-        FileHelper.cleanDirectory(downloadDir);
+        PageContext.clear();
 
-        // Check if the driver exists before attempting to quit it
+        // Check if the driver exists before attempting to quit or return it
         if (DriverFactory.getDriver() != null) {
-            DriverFactory.quitDriver();
+            FileHelper.cleanDirectory(DriverFactory.getDownloadDir());
+            DriverFactory.releaseDriver();
         } else {
             log.warn("Driver was already closed or never initialized.");
         }
     }
 
+    /** Driver bound to the thread running the current test */
+    protected WebDriver getDriver() {
+        return DriverFactory.getDriver();
+    }
+
+    /** Wait engine shared with the page objects of the current test */
+    protected WaitUtils getWaitUtils() {
+        return PageContext.current().getWaitUtils();
+    }
+
+    /** Test data for UI tests: seeded from testDataSeed when it is set, else unique to this run */
+    protected static TestDataFactory testData() {
+        return TestData.FACTORY;
+    }
+
+    /** Download folder of the driver bound to the current test */
+    protected Path getDownloadDir() {
+        return DriverFactory.getDownloadDir();
+    }
+
     public void cleanupAllDownloads() throws IOException {
-        Path base = SeleniumConfig.getInstance().getDownloadDir();
-        FileHelper.cleanDirectory(base);
+        FileHelper.cleanDirectory(DriverFactory.getDownloadDir());
     }
 
+    /** Name of the suite's &lt;test&gt; running on this thread, read from its ITestResult on each call */
     public String getCurrentTestNameFromXml() {
-        return this.testName;
+        ITestResult result = Reporter.getCurrentTestResult();
+        return result == null ? null : result.getTestContext().getCurrentXmlTest().getName();
     }
 }
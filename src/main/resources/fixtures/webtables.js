@@ -0,0 +1,172 @@
+// Local stand-in for the demoqa Web Tables page: same markup as react-table v6, same behaviour
+// (including the Add form keeping the values of the last Edit). ?loadingDelay=ms shows the
+// loading overlay for that long before every re-render.
+(function () {
+    var COLUMNS = ['firstName', 'lastName', 'age', 'email', 'salary', 'department'];
+    var state = {
+        rows: [
+            { id: 1, firstName: 'Cierra', lastName: 'Vega', age: '39', email: 'cierra@example.com', salary: '10000', department: 'Insurance' },
+            { id: 2, firstName: 'Alden', lastName: 'Cantrell', age: '45', email: 'alden@example.com', salary: '12000', department: 'Compliance' },
+            { id: 3, firstName: 'Kierra', lastName: 'Gentry', age: '29', email: 'kierra@example.com', salary: '2000', department: 'Legal' }
+        ],
+        nextId: 4,
+        page: 0,
+        pageSize: 10,
+        filter: '',
+        editing: null,
+        formValues: {}
+    };
+    var loadingDelay = parseInt(new URLSearchParams(location.search).get('loadingDelay') || '0', 10);
+
+    var tbody = document.querySelector('.rt-tbody');
+    var loading = document.querySelector('.-loading');
+    var jump = document.querySelector("input[aria-label='jump to page']");
+    var totalPages = document.querySelector('.-totalPages');
+    var pageSize = document.querySelector("select[aria-label='rows per page']");
+    var previous = document.querySelector('.-previous button');
+    var next = document.querySelector('.-next button');
+    var search = document.getElementById('searchBox');
+
+    function visibleRows() {
+        var f = state.filter.toLowerCase();
+        if (!f) return state.rows;
+        return state.rows.filter(function (row) {
+            return COLUMNS.some(function (c) { return String(row[c]).toLowerCase().indexOf(f) >= 0; });
+        });
+    }
+
+    function pages() {
+        return Math.max(1, Math.ceil(visibleRows().length / state.pageSize));
+    }
+
+    function cell(text) {
+        var td = document.createElement('div');
+        td.className = 'rt-td';
+        td.setAttribute('role', 'gridcell');
+        td.textContent = text;
+        return td;
+    }
+
+    function actionCell(row) {
+        var td = cell('');
+        td.innerHTML = '<div class="action-buttons">'
+            + '<span class="mr-2" id="edit-record-' + row.id + '" title="Edit" data-toggle="tooltip">&#9998;</span>'
+            + '<span id="delete-record-' + row.id + '" title="Delete" data-toggle="tooltip">&#128465;</span></div>';
+        td.querySelector('#edit-record-' + row.id).addEventListener('click', function () { openModal(row); });
+        td.querySelector('#delete-record-' + row.id).addEventListener('click', function () { remove(row.id); });
+        return td;
+    }
+
+    function rowGroup(row, index) {
+        var group = document.createElement('div');
+        group.className = 'rt-tr-group';
+        group.dataset.key = JSON.stringify(row);
+        group.setAttribute('role', 'rowgroup');
+        var tr = document.createElement('div');
+        tr.className = 'rt-tr ' + (index % 2 === 0 ? '-odd' : '-even') + (row ? '' : ' -padRow');
+        tr.setAttribute('role', 'row');
+        COLUMNS.forEach(function (c) { tr.appendChild(cell(row ? row[c] : ' ')); });
+        tr.appendChild(row ? actionCell(row) : cell(' '));
+        group.appendChild(tr);
+        return group;
+    }
+
+    function paint() {
+        var rows = visibleRows();
+        state.page = Math.min(Math.max(state.page, 0), pages() - 1);
+        var start = state.page * state.pageSize;
+        var slice = rows.slice(start, start + state.pageSize);
+
+        // Like React, unchanged row groups stay in the DOM and only changed ones are swapped
+        if (tbody.children.length !== state.pageSize) {
+            var fragment = document.createDocumentFragment();
+            for (var i = 0; i < state.pageSize; i++) fragment.appendChild(rowGroup(slice[i] || null, i));
+            tbody.replaceChildren(fragment);
+        } else {
+            for (var j = 0; j < state.pageSize; j++) {
+                var key = JSON.stringify(slice[j] || null);
+                var current = tbody.children[j];
+                if (current.dataset.key === key) continue;
+                var group = rowGroup(slice[j] || null, j);
+                tbody.replaceChild(group, current);
+            }
+        }
+
+        jump.value = String(state.page + 1);
+        totalPages.textContent = String(pages());
+        previous.disabled = state.page === 0;
+        next.disabled = state.page >= pages() - 1;
+        loading.classList.remove('-active');
+    }
+
+    function render() {
+        if (loadingDelay <= 0) return paint();
+        loading.classList.add('-active');
+        setTimeout(paint, loadingDelay);
+    }
+
+    function remove(id) {
+        state.rows = state.rows.filter(function (row) { return row.id !== id; });
+        render();
+    }
+
+    function closeModal() {
+        document.getElementById('modal-root').replaceChildren();
+        document.body.classList.remove('modal-open');
+    }
+
+    // demoqa keeps the last edited values in the Add form; reproduced on purpose so the bug check behaves the same
+    function openModal(row) {
+        state.editing = row ? row.id : null;
+        if (row) state.formValues = Object.assign({}, row);
+
+        var root = document.getElementById('modal-root');
+        root.replaceChildren(document.getElementById('registration-modal').content.cloneNode(true));
+        document.body.classList.add('modal-open');
+        var form = document.getElementById('userForm');
+        var ids = { firstName: 'firstName', lastName: 'lastName', email: 'userEmail', age: 'age', salary: 'salary', department: 'department' };
+        COLUMNS.forEach(function (c) { document.getElementById(ids[c]).value = state.formValues[c] || ''; });
+
+        root.querySelector('button.close').addEventListener('click', closeModal);
+        form.addEventListener('submit', function (e) {
+            e.preventDefault();
+            if (!form.checkValidity()) {
+                form.classList.add('was-validated');
+                return;
+            }
+            var values = {};
+            COLUMNS.forEach(function (c) { values[c] = document.getElementById(ids[c]).value; });
+            if (state.editing !== null) {
+                Object.assign(state.rows.find(function (r) { return r.id === state.editing; }), values);
+            } else {
+                values.id = state.nextId++;
+                state.rows.push(values);
+            }
+            state.formValues = {};
+            closeModal();
+            render();
+        });
+    }
+
+    document.getElementById('addNewRecordButton').addEventListener('click', function () { openModal(null); });
+    search.addEventListener('input', function () {
+        state.filter = search.value;
+        state.page = 0;
+        render();
+    });
+    pageSize.addEventListener('change', function () {
+        state.pageSize = parseInt(pageSize.value, 10);
+        render();
+    });
+    previous.addEventListener('click', function () { state.page--; render(); });
+    next.addEventListener('click', function () { state.page++; render(); });
+    function applyJump() {
+        var value = parseInt(jump.value, 10);
+        state.page = isNaN(value) ? state.page : value - 1;
+        render();
+    }
+    jump.addEventListener('keydown', function (e) { if (e.key === 'Enter') applyJump(); });
+    jump.addEventListener('blur', applyJump);
+
+    render();
+})();
@@ -6,6 +6,7 @@ import api.endpoints.BookStoreEndpoints;
 import api.helpers.BookStoreApiHelper;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
+import testdata.TestDataFactory;
 import static org.hamcrest.Matchers.*;
 
 public class BookStoreApiTest {
@@ -17,7 +18,7 @@ public class BookStoreApiTest {
 
     @BeforeClass
     public void setup() {
-        username = "user_" + System.currentTimeMillis();
+        username = TestDataFactory.get().username();
         password = "Test1234!";
 
         System.out.println("Registering User: " + username + " with Password: " + password);
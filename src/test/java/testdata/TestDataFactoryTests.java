@@ -0,0 +1,90 @@
+package testdata;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import ui.models.Employee;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+public class TestDataFactoryTests {
+
+    @Test(description = "Ids generated by many threads at once never collide")
+    public void uniqueIds_acrossThreads() throws Exception {
+        TestDataFactory data = TestDataFactory.unique();
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            pool.submit(() -> {
+                for (int i = 0; i < 10_000; i++) ids.add(data.uniqueId());
+            });
+        }
+        pool.shutdown();
+        Assert.assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+        Assert.assertEquals(ids.size(), 80_000);
+        Assert.assertTrue(ids.stream().allMatch(id -> id.matches("[0-9a-z]+")));
+    }
+
+    @Test(description = "The same seed gives the same records; different seeds give different ids")
+    public void seeded_isDeterministic() {
+        List<Employee> first = TestDataFactory.seeded(42).employees("Seed", 50);
+        List<Employee> second = TestDataFactory.seeded(42).employees("Seed", 50);
+        Assert.assertEquals(first, second);
+        Assert.assertNotEquals(TestDataFactory.seeded(43).uniqueId(), TestDataFactory.seeded(42).uniqueId());
+
+        Employee e = first.get(0);
+        Assert.assertTrue(e.getFirstName().startsWith("Seed"));
+        Assert.assertTrue(e.getEmail().matches("seed[0-9a-z]+@example\\.com"), e.getEmail());
+        Assert.assertTrue(Integer.parseInt(e.getAge()) >= 18 && Integer.parseInt(e.getAge()) <= 65);
+        Assert.assertTrue(e.getFirstName().length() <= 25, "demoqa limits names to 25 characters");
+    }
+
+    @Test(description = "User names carry a per-run tag on top of the id, so a seeded run never reuses an account name")
+    public void username_randomPerRunEvenWhenSeeded() {
+        String id = TestDataFactory.seeded(42).uniqueId();
+        String username = TestDataFactory.seeded(42).username();
+        Assert.assertTrue(username.startsWith("user_") && username.endsWith(id), username);
+        Assert.assertEquals(username.length(), "user_".length() + 4 + id.length());
+    }
+
+    @Test(description = "CSV and JSON fixtures stream record by record with {id} replaced per record")
+    public void streamEmployees_csvAndJson() throws Exception {
+        Path dir = Files.createTempDirectory("testdata");
+        Path csv = Files.writeString(dir.resolve("employees.csv"), """
+                firstName,lastName,email,age,salary,department
+                Ann{id},Lee,ann{id}@example.com,30,4000,Legal
+                Bob{id},Ray,bob{id}@example.com,41,5200,Insurance
+                """);
+        Path json = Files.writeString(dir.resolve("employees.json"), """
+                [ {"firstName": "Cy{id}", "lastName": "Moe", "email": "cy{id}@example.com", "age": 29, "salary": "3100", "department": "CI"},
+                  {"firstName": "Di{id}", "lastName": "Fox", "email": "di{id}@example.com", "age": 52, "salary": "7000", "department": "CI"} ]
+                """);
+        TestDataFactory data = TestDataFactory.seeded(7);
+
+        try (Stream<Employee> employees = data.streamEmployees(csv)) {
+            List<Employee> list = employees.toList();
+            Assert.assertEquals(list.size(), 2);
+            Employee ann = list.get(0);
+            String id = ann.getFirstName().substring("Ann".length());
+            Assert.assertEquals(ann.getEmail(), "ann" + id + "@example.com");
+            Assert.assertEquals(ann.getDepartment(), "Legal");
+            Assert.assertNotEquals(list.get(1).getFirstName(), "Bob" + id);
+        }
+        try (Stream<Employee> employees = data.streamEmployees(json)) {
+            Employee first = employees.findFirst().orElseThrow();
+            Assert.assertTrue(first.getFirstName().startsWith("Cy") && first.getFirstName().length() > 2);
+            Assert.assertEquals(first.getAge(), "29");
+        }
+
+        Path bad = Files.writeString(dir.resolve("bad.csv"), "firstName,nickname\nA,B\n");
+        RuntimeException e = Assert.expectThrows(RuntimeException.class, () -> data.streamEmployees(bad));
+        Assert.assertTrue(e.getMessage().contains("nickname"), e.getMessage());
+    }
+}
@@ -0,0 +1,44 @@
+package ui.core.config;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.InputStream;
+
+/**
+ * Per-getter cost of the parsed-once snapshot versus the old parse-per-call lookup.
+ * Not part of the default surefire run: mvn test -Dtest=SeleniumConfigBenchmark
+ */
+public class SeleniumConfigBenchmark {
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 2_000;
+
+    // Previous implementation: new factory, open resource and parse the whole file on every getter
+    private static String legacyLookup(String propertyName) throws Exception {
+        try (InputStream is = SeleniumConfig.class.getClassLoader().getResourceAsStream(SeleniumConfig.configFile)) {
+            Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(is);
+            return document.getElementsByTagName(propertyName).item(0).getTextContent();
+        }
+    }
+
+    @Test(description = "Snapshot getters must be orders of magnitude cheaper than re-parsing the XML")
+    public void getterCost_beforeAndAfter() throws Exception {
+        String sink = "";
+        for (int i = 0; i < WARMUP; i++) sink = legacyLookup("browserName");
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) sink = legacyLookup("browserName");
+        double legacyNs = (System.nanoTime() - start) / (double) ITERATIONS;
+
+        SeleniumConfig config = SeleniumConfig.getInstance();
+        for (int i = 0; i < WARMUP; i++) sink = config.getBrowserName();
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) sink = config.getBrowserName();
+        double snapshotNs = (System.nanoTime() - start) / (double) ITERATIONS;
+
+        System.out.printf("SeleniumConfig getter: parse-per-call %.0f ns/op, snapshot %.0f ns/op (%.0fx)%n",
+                legacyNs, snapshotNs, legacyNs / Math.max(snapshotNs, 1));
+        Assert.assertNotNull(sink);
+        Assert.assertTrue(snapshotNs * 10 < legacyNs, "Snapshot getter should be at least 10x cheaper");
+    }
+}
@@ -0,0 +1,125 @@
+package ui.core.config;
+
+import org.openqa.selenium.PageLoadStrategy;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+public class SeleniumConfigTests {
+    private static final String XML = """
+            <config>
+                <browserName>Firefox</browserName>
+                <useWebDriverManager>true</useWebDriverManager>
+                <environmentURL>https://demoqa.com</environmentURL>
+                <downloadPath>target/downloads</downloadPath>
+                <timeout>10</timeout>
+                <headlessDriver>false</headlessDriver>
+                <browserProfile>fidelity</browserProfile>
+                <profiles>
+                    <profile name="fidelity">
+                        <pageLoadStrategy>normal</pageLoadStrategy>
+                    </profile>
+                    <profile name="fast-headless">
+                        <headless>true</headless>
+                        <pageLoadStrategy>eager</pageLoadStrategy>
+                        <disableImages>true</disableImages>
+                    </profile>
+                </profiles>
+            </config>
+            """;
+
+    static Document parse(String xml) throws Exception {
+        return DocumentBuilderFactory.newInstance().newDocumentBuilder()
+                .parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test(description = "XML values are parsed into typed fields")
+    public void xmlValues_areTyped() throws Exception {
+        SeleniumConfig config = new SeleniumConfig(parse(XML), key -> null, key -> null);
+
+        Assert.assertEquals(config.getBrowser(), Browser.FIREFOX);
+        Assert.assertEquals(config.getTimeout(), Duration.ofSeconds(10));
+        Assert.assertFalse(config.getHeadlessDriver());
+        Assert.assertTrue(config.getUseWebDriverManager());
+        Assert.assertEquals(config.getEnvironmentURL(), "https://demoqa.com");
+    }
+
+    @Test(description = "System property overrides environment variable which overrides XML")
+    public void overrideLayers_precedence() throws Exception {
+        Map<String, String> sys = Map.of("selenium.browserName", "edge");
+        Map<String, String> env = Map.of("SELENIUM_BROWSER_NAME", "chrome", "SELENIUM_TIMEOUT", "3",
+                "SELENIUM_HEADLESS_DRIVER", "true");
+
+        SeleniumConfig config = new SeleniumConfig(parse(XML), sys::get, env::get);
+
+        Assert.assertEquals(config.getBrowser(), Browser.EDGE);
+        Assert.assertEquals(config.getTimeout(), Duration.ofSeconds(3));
+        Assert.assertTrue(config.getHeadlessDriver());
+    }
+
+    @Test(description = "Form fill mode defaults to keys, can be overridden and rejects unknown values")
+    public void formFillMode_parsed() throws Exception {
+        Assert.assertEquals(new SeleniumConfig(parse(XML), key -> null, key -> null).getFormFillMode(), FormFillMode.KEYS);
+
+        Map<String, String> env = Map.of("SELENIUM_FORM_FILL_MODE", "Script");
+        Assert.assertEquals(new SeleniumConfig(parse(XML), key -> null, env::get).getFormFillMode(), FormFillMode.SCRIPT);
+
+        Map<String, String> sys = Map.of("selenium.formFillMode", "paste");
+        RuntimeException e = Assert.expectThrows(RuntimeException.class, () -> new SeleniumConfig(parse(XML), sys::get, key -> null));
+        Assert.assertTrue(e.getMessage().contains("formFillMode"), e.getMessage());
+    }
+
+    @Test(description = "testDataSeed is empty unless configured")
+    public void testDataSeed_optional() throws Exception {
+        Assert.assertTrue(new SeleniumConfig(parse(XML), key -> null, key -> null).getTestDataSeed().isEmpty());
+
+        Map<String, String> sys = Map.of("selenium.testDataSeed", "42");
+        Assert.assertEquals(new SeleniumConfig(parse(XML), sys::get, key -> null).getTestDataSeed().getAsLong(), 42L);
+    }
+
+    @Test(description = "Invalid numeric value fails fast with the key name")
+    public void invalidNumber_throws() throws Exception {
+        Map<String, String> sys = Map.of("selenium.timeout", "ten");
+        try {
+            new SeleniumConfig(parse(XML), sys::get, key -> null);
+            Assert.fail("Expected invalid timeout to be rejected");
+        } catch (RuntimeException e) {
+            Assert.assertTrue(e.getMessage().contains("timeout"), e.getMessage());
+        }
+    }
+
+    @Test(description = "Profile selected by override is parsed with its page-load strategy and flags")
+    public void browserProfile_selectedByOverride() throws Exception {
+        Map<String, String> sys = Map.of("selenium.browserProfile", "fast-headless");
+        SeleniumConfig config = new SeleniumConfig(parse(XML), sys::get, key -> null);
+
+        BrowserProfile profile = config.getBrowserProfile();
+        Assert.assertEquals(profile.pageLoadStrategy(), PageLoadStrategy.EAGER);
+        Assert.assertTrue(profile.disableImages());
+        Assert.assertFalse(profile.disableGpu());
+        Assert.assertTrue(profile.isHeadless(config.getHeadlessDriver()), "Profile headless overrides headlessDriver");
+        Assert.assertFalse(new SeleniumConfig(parse(XML), key -> null, key -> null).getBrowserProfile().isHeadless(false));
+    }
+
+    @Test(description = "Unknown profile name fails fast")
+    public void unknownProfile_throws() throws Exception {
+        Map<String, String> sys = Map.of("selenium.browserProfile", "turbo");
+        try {
+            new SeleniumConfig(parse(XML), sys::get, key -> null);
+            Assert.fail("Expected unknown profile to be rejected");
+        } catch (RuntimeException e) {
+            Assert.assertTrue(e.getMessage().contains("turbo"), e.getMessage());
+        }
+    }
+
+    @Test(description = "camelCase keys map to SELENIUM_UPPER_SNAKE environment variables")
+    public void environmentName_mapping() {
+        Assert.assertEquals(SeleniumConfig.environmentName("environmentURL"), "SELENIUM_ENVIRONMENT_URL");
+        Assert.assertEquals(SeleniumConfig.environmentName("timeout"), "SELENIUM_TIMEOUT");
+    }
+}
@@ -0,0 +1,124 @@
+package ui.core.driver;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import ui.core.config.Browser;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.function.Function;
+
+public class DriverBinaryResolverTests {
+    private static final Duration MAX_AGE = Duration.ofHours(168);
+    private static final String KEY = Browser.CHROME.id() + "." + DriverBinaryResolver.platform();
+
+    private Path cacheDir;
+    private Path cachedBinary;
+    private Path downloadedBinary;
+    private final List<Browser> lookups = new ArrayList<>();
+
+    @BeforeMethod
+    public void createCache() throws Exception {
+        cacheDir = Files.createTempDirectory("driver-cache");
+        cachedBinary = executable(cacheDir.resolve("cached-chromedriver"));
+        downloadedBinary = executable(cacheDir.resolve("downloaded-chromedriver"));
+        lookups.clear();
+    }
+
+    private static Path executable(Path file) throws Exception {
+        Files.createFile(file);
+        Assert.assertTrue(file.toFile().setExecutable(true), "Cannot make " + file + " executable");
+        return file;
+    }
+
+    // Stands in for WebDriverManager: counts lookups and answers with the "downloaded" binary
+    private Function<Browser, DriverBinaryResolver.Resolution> online() {
+        return browser -> {
+            lookups.add(browser);
+            return new DriverBinaryResolver.Resolution(downloadedBinary, "2.0");
+        };
+    }
+
+    private Function<Browser, DriverBinaryResolver.Resolution> offline() {
+        return browser -> {
+            lookups.add(browser);
+            throw new IllegalStateException("no network");
+        };
+    }
+
+    private void writeManifest(String resolvedAt) throws Exception {
+        Properties manifest = new Properties();
+        manifest.setProperty(KEY + ".path", cachedBinary.toString());
+        manifest.setProperty(KEY + ".version", "1.0");
+        manifest.setProperty(KEY + ".resolvedAt", resolvedAt);
+        try (OutputStream out = Files.newOutputStream(cacheDir.resolve("manifest.properties"))) {
+            manifest.store(out, null);
+        }
+    }
+
+    private Properties readManifest() throws Exception {
+        Properties manifest = new Properties();
+        try (InputStream in = Files.newInputStream(cacheDir.resolve("manifest.properties"))) {
+            manifest.load(in);
+        }
+        return manifest;
+    }
+
+    private Path resolve(Function<Browser, DriverBinaryResolver.Resolution> resolver) {
+        return DriverBinaryResolver.resolveCached(Browser.CHROME, cacheDir, MAX_AGE, resolver);
+    }
+
+    @Test(description = "A fresh manifest entry is used without a lookup")
+    public void fresh_usesCacheWithoutLookup() throws Exception {
+        writeManifest(Instant.now().minus(Duration.ofHours(1)).toString());
+        Assert.assertEquals(resolve(online()), cachedBinary);
+        Assert.assertTrue(lookups.isEmpty());
+    }
+
+    @Test(description = "A stale entry is re-resolved and the manifest records the new binary")
+    public void stale_isResolvedAgain() throws Exception {
+        writeManifest(Instant.now().minus(MAX_AGE).minus(Duration.ofHours(1)).toString());
+        Assert.assertEquals(resolve(online()), downloadedBinary);
+        Assert.assertEquals(lookups, List.of(Browser.CHROME));
+
+        Properties manifest = readManifest();
+        Assert.assertEquals(manifest.getProperty(KEY + ".path"), downloadedBinary.toAbsolutePath().toString());
+        Assert.assertEquals(manifest.getProperty(KEY + ".version"), "2.0");
+    }
+
+    @Test(description = "Offline, a stale entry is still used instead of failing")
+    public void offline_fallsBackToStaleEntry() throws Exception {
+        writeManifest(Instant.now().minus(MAX_AGE).minus(Duration.ofHours(1)).toString());
+        Assert.assertEquals(resolve(offline()), cachedBinary);
+        Assert.assertEquals(lookups, List.of(Browser.CHROME));
+    }
+
+    @Test(description = "Offline without any usable entry, the lookup failure is reported")
+    public void offline_withoutEntryFails() {
+        Assert.expectThrows(IllegalStateException.class, () -> resolve(offline()));
+    }
+
+    @Test(description = "An unparsable timestamp is a cache miss, not an error")
+    public void corruptTimestamp_isCacheMiss() throws Exception {
+        writeManifest("last tuesday");
+        Assert.assertEquals(resolve(online()), downloadedBinary);
+        Assert.assertEquals(lookups, List.of(Browser.CHROME));
+        Instant.parse(readManifest().getProperty(KEY + ".resolvedAt"));
+    }
+
+    @Test(description = "A manifest pointing at a missing binary is a cache miss")
+    public void missingBinary_isCacheMiss() throws Exception {
+        writeManifest(Instant.now().toString());
+        Files.delete(cachedBinary);
+        Assert.assertEquals(resolve(online()), downloadedBinary);
+        Assert.assertEquals(lookups, List.of(Browser.CHROME));
+    }
+}
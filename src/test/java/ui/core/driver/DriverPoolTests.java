@@ -0,0 +1,94 @@
+package ui.core.driver;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+import ui.core.config.Browser;
+import ui.testing.Fakes;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+public class DriverPoolTests {
+
+    // Records every WebDriver call; nested interfaces (switchTo, manage) are faked the same way
+    static class FakeBrowser {
+        final List<String> calls = new ArrayList<>();
+        boolean dead;
+
+        WebDriver driver() {
+            return (WebDriver) fake(WebDriver.class, JavascriptExecutor.class);
+        }
+
+        private Object fake(Class<?>... types) {
+            return Fakes.proxy(types[0].getSimpleName(), (proxy, method, args) -> {
+                calls.add(method.getName());
+                if (method.getName().equals("getWindowHandle") && dead) throw new NoSuchSessionException("browser gone");
+                Class<?> type = method.getReturnType();
+                if (type == String.class) return "main";
+                if (type == Set.class) return Set.of("main");
+                if (type.isInterface()) return fake(type);
+                return null;
+            }, types);
+        }
+    }
+
+    private DriverSession session(FakeBrowser browser) throws Exception {
+        return new DriverSession(Browser.FIREFOX, browser.driver(), Files.createTempDirectory("pool"), Duration.ofSeconds(2));
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void drain() {
+        DriverPool.quitAll();
+    }
+
+    @Test(description = "Released session is reset and handed to the next lease instead of starting a browser")
+    public void releasedSession_isReused() throws Exception {
+        FakeBrowser fake = new FakeBrowser();
+        DriverSession first = session(fake);
+        Path leftover = Files.createFile(first.getDownloadDir().resolve("leftover.txt"));
+
+        DriverPool.release(first);
+        DriverSession second = DriverPool.acquire(Browser.FIREFOX, () -> { throw new AssertionError("should reuse"); });
+
+        Assert.assertSame(second, first);
+        Assert.assertFalse(Files.exists(leftover), "Download folder should be emptied on reset");
+        Assert.assertTrue(fake.calls.contains("executeScript"), "Storage should be cleared on reset");
+        Assert.assertFalse(fake.calls.contains("quit"));
+    }
+
+    @Test(description = "Session failing the health check is quit and replaced")
+    public void deadSession_isReplaced() throws Exception {
+        FakeBrowser fake = new FakeBrowser();
+        DriverSession pooled = session(fake);
+        DriverPool.release(pooled);
+        fake.dead = true;
+
+        DriverSession replacement = session(new FakeBrowser());
+        DriverSession leased = DriverPool.acquire(Browser.FIREFOX, () -> replacement);
+
+        Assert.assertSame(leased, replacement);
+        Assert.assertTrue(fake.calls.contains("quit"), "Dead session should be quit");
+    }
+
+    @Test(description = "Browser started in the background is leased before a new one is launched")
+    public void prewarmedSession_isLeasedFirst() throws Exception {
+        DriverSession warmed = session(new FakeBrowser());
+        DriverPool.offerWarming(Browser.FIREFOX, CompletableFuture.completedFuture(warmed));
+        int leasesBefore = DriverPool.getPrewarmedLeases();
+
+        DriverSession leased = DriverPool.acquire(Browser.FIREFOX, () -> { throw new AssertionError("should use prewarmed"); });
+
+        Assert.assertSame(leased, warmed);
+        Assert.assertEquals(DriverPool.getPrewarmedLeases(), leasesBefore + 1);
+        Assert.assertTrue(DriverPool.getHiddenStartupTime().toMillis() > 0, "Startup of a ready session is fully hidden");
+    }
+}
@@ -0,0 +1,91 @@
+package ui.core.driver;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.grid.commands.Standalone;
+import org.openqa.selenium.grid.config.MapConfig;
+import org.openqa.selenium.grid.server.Server;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import ui.core.server.LocalDemoQaServer;
+import ui.core.wait.Poller;
+import ui.utils.FileHelper;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Drives Chrome through an in-process standalone Selenium server (managed downloads enabled)
+ * against the local demoqa stand-in.
+ */
+public class RemoteSessionsTests {
+    private Server<?> grid;
+    private String pageUrl;
+
+    @BeforeClass
+    public void startGrid() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        grid = new Standalone().asServer(new MapConfig(Map.of(
+                "server", Map.of("port", port),
+                "node", Map.of("detect-drivers", true, "enable-managed-downloads", true)))).start();
+        pageUrl = LocalDemoQaServer.start(0, Duration.ZERO) + "/upload-download";
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopGrid() {
+        if (grid != null) grid.stop();
+        LocalDemoQaServer.stop();
+    }
+
+    private RemoteWebDriver startChrome() {
+        ChromeOptions options = new ChromeOptions().addArguments("--headless=new");
+        options.setCapability("se:downloadsEnabled", true);
+        return RemoteSessions.start(grid.getUrl(), options, false);
+    }
+
+    @Test(description = "Files downloaded on the node are pulled back into the local download folder")
+    public void download_isPulledBack() throws Exception {
+        RemoteWebDriver driver = startChrome();
+        try {
+            driver.get(pageUrl);
+            driver.findElement(By.id("downloadButton")).click();
+
+            Path dir = Files.createTempDirectory("remote-downloads");
+            Path downloaded = Poller.defaults().withTimeout(Duration.ofSeconds(10)).poll("remote download", () -> {
+                RemoteSessions.pullDownloads(driver, dir);
+                return FileHelper.findFile(dir, "sampleFile.jpeg");
+            }).orElse(null);
+            Assert.assertNotNull(downloaded, "Remote download should be copied to " + dir);
+            Assert.assertEquals(FileHelper.sha256(downloaded), "bfe667206ab97abd8def5d0db33c2531c0e959dd51e7c1428bc103f607ff3a2b");
+        } finally {
+            driver.quit();
+            RemoteSessions.release();
+        }
+    }
+
+    @Test(description = "Local file paths typed into file inputs are uploaded to the node")
+    public void upload_usesLocalFileDetector() throws Exception {
+        RemoteWebDriver driver = startChrome();
+        try {
+            Path file = FileHelper.createTempFileWithSize(Files.createTempDirectory("remote-upload"), "upload-test.txt", 1024);
+            driver.get(pageUrl);
+            driver.findElement(By.id("uploadFile")).sendKeys(file.toAbsolutePath().toString());
+
+            Object name = driver.executeScript("return document.getElementById('uploadFile').files[0].name;");
+            Assert.assertEquals(name, "upload-test.txt");
+        } finally {
+            driver.quit();
+            RemoteSessions.release();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package ui.core.metrics;
+
+import org.openqa.selenium.remote.http.HttpHandler;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class CommandCounterTests {
+
+    @Test(description = "Every request passing through the filter is counted once and forwarded")
+    public void countsEveryCommand() {
+        CommandCounter counter = new CommandCounter();
+        HttpHandler driver = counter.andFinally(request -> new HttpResponse().setStatus(200));
+
+        for (int i = 0; i < 3; i++) {
+            HttpResponse response = driver.execute(new HttpRequest(HttpMethod.POST, "/session/1/element"));
+            Assert.assertEquals(response.getStatus(), 200);
+        }
+        Assert.assertEquals(counter.get(), 3);
+    }
+}
@@ -0,0 +1,55 @@
+package ui.core.metrics;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+public class MetricsTests {
+
+    @BeforeMethod
+    public void reset() {
+        Metrics.reset();
+    }
+
+    @Test(description = "Nearest-rank percentiles over recorded samples")
+    public void percentiles_nearestRank() {
+        Timer timer = Metrics.timer("test.percentiles");
+        for (int i = 1; i <= 100; i++) timer.record(Duration.ofMillis(i));
+
+        Timer.Summary summary = timer.summary();
+        Assert.assertEquals(summary.count(), 100);
+        Assert.assertEquals(summary.percentileMillis(50), 50.0);
+        Assert.assertEquals(summary.percentileMillis(95), 95.0);
+        Assert.assertEquals(summary.percentileMillis(99), 99.0);
+        Assert.assertEquals(summary.maxMillis(), 100.0);
+    }
+
+    @Test(description = "Reporter writes JSON and CSV with one row per timer")
+    public void reporter_writesJsonAndCsv() throws Exception {
+        Metrics.record("driver.firefox.session", Duration.ofMillis(1200));
+        Path dir = Files.createTempDirectory("metrics");
+        MetricsReporter.write(dir, "unit");
+
+        Path csv = dir.resolve("run-" + MetricsReporter.getRunId() + ".csv");
+        Path json = dir.resolve("run-" + MetricsReporter.getRunId() + ".json");
+        Assert.assertTrue(Files.readString(csv).contains("driver.firefox.session,1,1200.000"), Files.readString(csv));
+        Assert.assertTrue(Files.readString(json).contains("\"p95Ms\""));
+        Assert.assertEquals(Files.readAllLines(csv).size(), 2, "Only the timer recorded by this test");
+        Assert.assertFalse(Files.exists(dir.resolve("run-" + MetricsReporter.getRunId() + "-distributions.csv")));
+    }
+
+    @Test(description = "Distributions are reported in their own unit, next to the timers")
+    public void reporter_writesDistributions() throws Exception {
+        for (int attempts : new int[] {1, 1, 2, 7}) Metrics.distribution("poll.row.attempts").record(attempts);
+        Path dir = Files.createTempDirectory("metrics");
+        MetricsReporter.write(dir, "unit");
+
+        Path csv = dir.resolve("run-" + MetricsReporter.getRunId() + "-distributions.csv");
+        Assert.assertEquals(Files.readAllLines(csv).get(1), "poll.row.attempts,4,1,1,7,7,7,2.750");
+        Assert.assertTrue(Files.readString(dir.resolve("run-" + MetricsReporter.getRunId() + ".json")).contains("\"poll.row.attempts\""));
+    }
+}
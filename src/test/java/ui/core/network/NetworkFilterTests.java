@@ -0,0 +1,109 @@
+package ui.core.network;
+
+import com.sun.net.httpserver.HttpServer;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import ui.core.config.Browser;
+import ui.core.config.NetworkFilterMode;
+import ui.core.driver.DriverFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs Chrome against a local page whose "third-party" resources live under /ads/ on another origin
+ * (localhost instead of 127.0.0.1). The server counts what actually reaches it.
+ */
+public class NetworkFilterTests {
+    private static final int AD_SIZE = 4096;
+    private final Map<String, AtomicInteger> hits = new ConcurrentHashMap<>();
+    private final UrlRules rules = new UrlRules(List.of("*://localhost:*/ads/*"), List.of());
+    private HttpServer server;
+    private String pageUrl;
+
+    @BeforeClass
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        int port = server.getAddress().getPort();
+        String page = """
+                <html><head>
+                <script src="http://localhost:%1$d/ads/tracker.js" onerror="window.trackerFailed = true"></script>
+                <script src="/app.js"></script>
+                </head><body>
+                <img src="http://localhost:%1$d/ads/banner.gif">
+                <h1>Web Tables</h1>
+                </body></html>
+                """.formatted(port);
+        server.createContext("/", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            hits.computeIfAbsent(path, p -> new AtomicInteger()).incrementAndGet();
+            byte[] body = path.startsWith("/ads/") ? new byte[AD_SIZE]
+                    : path.equals("/app.js") ? "window.app = true;".getBytes(StandardCharsets.UTF_8)
+                    : page.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        pageUrl = "http://127.0.0.1:" + port + "/webtables";
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        if (server != null) server.stop(0);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void quit() {
+        DriverFactory.quitDriver();
+        hits.clear();
+    }
+
+    @Test(description = "Blocked requests never reach the server and are reported for the page")
+    public void block_stopsThirdPartyRequests() {
+        WebDriver driver = new DriverFactory("chrome").createDriver();
+        NetworkFilter filter = NetworkFilter.attach(Browser.CHROME, driver, rules, NetworkFilterMode.BLOCK);
+
+        filter.beginPage(pageUrl);
+        driver.get(pageUrl);
+        filter.finishPage();
+
+        Assert.assertNull(hits.get("/ads/tracker.js"));
+        Assert.assertNull(hits.get("/ads/banner.gif"));
+        Assert.assertEquals(hits.get("/app.js").get(), 1, "first-party script must still load");
+        Assert.assertEquals(((JavascriptExecutor) driver).executeScript("return window.trackerFailed === true;"), true,
+                "blocked requests must fail, not load empty");
+        Assert.assertEquals(filter.getReports().get(0).blockedRequests(), 2);
+        filter.close();
+    }
+
+    @Test(description = "Audit mode lets matching requests through and learns their size for block-mode estimates")
+    public void audit_learnsBytesSavedByBlock() {
+        WebDriver driver = new DriverFactory("chrome").createDriver();
+        NetworkFilter audit = NetworkFilter.attach(Browser.CHROME, driver, rules, NetworkFilterMode.AUDIT);
+        audit.beginPage(pageUrl);
+        driver.get(pageUrl);
+        audit.close();
+        Assert.assertEquals(hits.get("/ads/tracker.js").get(), 1);
+        Assert.assertEquals(audit.getReports().get(0).bytesSaved(), 2L * AD_SIZE);
+
+        NetworkFilter block = NetworkFilter.attach(Browser.CHROME, driver, rules, NetworkFilterMode.BLOCK);
+        block.beginPage(pageUrl);
+        driver.navigate().refresh();
+        block.close();
+        Assert.assertEquals(block.getReports().get(0).bytesSaved(), 2L * AD_SIZE);
+        Assert.assertEquals(block.getReports().get(0).unsizedRequests(), 0);
+    }
+}
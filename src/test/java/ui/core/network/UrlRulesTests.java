@@ -0,0 +1,42 @@
+package ui.core.network;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+public class UrlRulesTests {
+    private final UrlRules rules = new UrlRules(
+            List.of("*://*.doubleclick.net/*", "*://localhost:*/ads/*"),
+            List.of("*://localhost:*/ads/allowed.js"));
+
+    @Test(description = "Glob patterns match the whole URL, across sub-domains and ports")
+    public void blocklist_matchesWholeUrl() {
+        Assert.assertTrue(rules.isBlocked("https://securepubads.g.doubleclick.net/tag/js/gpt.js"));
+        Assert.assertTrue(rules.isBlocked("http://localhost:8123/ads/pixel.gif?id=1"));
+        Assert.assertFalse(rules.isBlocked("https://demoqa.com/webtables"));
+        Assert.assertFalse(rules.isBlocked("https://doubleclick.net.demoqa.com/app.js"));
+    }
+
+    @Test(description = "Allowlist entries win over the blocklist")
+    public void allowlist_winsOverBlocklist() {
+        Assert.assertFalse(rules.isBlocked("http://localhost:8123/ads/allowed.js"));
+        Assert.assertTrue(rules.isBlocked("http://localhost:8123/ads/other.js"));
+    }
+
+    @Test(description = "Regex metacharacters in patterns are literal")
+    public void glob_quotesRegexCharacters() {
+        UrlRules literal = new UrlRules(List.of("https://example.com/a+b.js?x=1"), List.of());
+        Assert.assertTrue(literal.isBlocked("https://example.com/a+b.js?x=1"));
+        Assert.assertFalse(literal.isBlocked("https://example.com/aab.js?x=1"));
+    }
+
+    @Test(description = "Blocklist hosts are listed only when every pattern names a fixed host")
+    public void literalHosts_onlyForFixedHosts() {
+        UrlRules fixed = new UrlRules(List.of("https://Ads.example.com:8080/px*", "*://user@tracker.example.net/*",
+                "*://ads.example.com/*"), List.of());
+        Assert.assertEquals(fixed.literalHosts().orElseThrow(), List.of("ads.example.com", "tracker.example.net"));
+        Assert.assertTrue(rules.literalHosts().isEmpty());
+        Assert.assertTrue(new UrlRules(List.of("*ads*"), List.of()).literalHosts().isEmpty());
+    }
+}
@@ -0,0 +1,87 @@
+package ui.core.server;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.HexFormat;
+
+public class LocalDemoQaServerTests {
+    private final HttpClient client = HttpClient.newHttpClient();
+    private String baseUrl;
+
+    @BeforeClass
+    public void start() {
+        baseUrl = LocalDemoQaServer.start(0, Duration.ZERO);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stop() {
+        LocalDemoQaServer.stop();
+    }
+
+    private HttpResponse<byte[]> get(String path) throws Exception {
+        return client.send(HttpRequest.newBuilder(URI.create(baseUrl + path)).build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    @Test(description = "Web Tables page has the react-table markup the page objects locate")
+    public void webtables_servesReactTableMarkup() throws Exception {
+        HttpResponse<byte[]> response = get("/webtables");
+        String html = new String(response.body());
+
+        Assert.assertEquals(response.statusCode(), 200);
+        Assert.assertTrue(response.headers().firstValue("Content-Type").orElse("").startsWith("text/html"));
+        for (String marker : new String[] { "class=\"ReactTable", "class=\"rt-tbody\"", "id=\"addNewRecordButton\"",
+                "id=\"searchBox\"", "aria-label=\"rows per page\"", "aria-label=\"jump to page\"", "class=\"-totalPages\"",
+                "id=\"userEmail\"", "/fixtures/webtables.js" }) {
+            Assert.assertTrue(html.contains(marker), "Missing " + marker);
+        }
+        Assert.assertEquals(get("/fixtures/webtables.js").statusCode(), 200);
+    }
+
+    @Test(description = "Download fixture is served byte for byte")
+    public void sampleFile_isServed() throws Exception {
+        HttpResponse<byte[]> response = get("/fixtures/sampleFile.jpeg");
+        Assert.assertEquals(response.headers().firstValue("Content-Type").orElse(null), "image/jpeg");
+        Assert.assertEquals(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(response.body())),
+                "bfe667206ab97abd8def5d0db33c2531c0e959dd51e7c1428bc103f607ff3a2b");
+        Assert.assertTrue(new String(get("/upload-download").body()).contains("id=\"downloadButton\""));
+    }
+
+    @Test(description = "Unknown paths and path traversal get 404")
+    public void unknownPath_notFound() throws Exception {
+        Assert.assertEquals(get("/books").statusCode(), 404);
+        Assert.assertEquals(get("/fixtures/../log4J2.xml").statusCode(), 404);
+    }
+
+    @Test(description = "Latency is injected per request and globally")
+    public void latency_isInjected() throws Exception {
+        long start = System.nanoTime();
+        get("/webtables?latency=300");
+        Assert.assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() >= 300);
+
+        LocalDemoQaServer.setLatency(Duration.ofMillis(200));
+        try {
+            start = System.nanoTime();
+            get("/upload-download");
+            Assert.assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() >= 200);
+        } finally {
+            LocalDemoQaServer.setLatency(Duration.ZERO);
+        }
+    }
+
+    @Test(description = "A latency that is not a non-negative number is answered with 400")
+    public void latency_invalidIsBadRequest() throws Exception {
+        Assert.assertEquals(get("/webtables?latency=abc").statusCode(), 400);
+        Assert.assertEquals(get("/webtables?latency=-5").statusCode(), 400);
+        Assert.assertEquals(get("/webtables?latency=").statusCode(), 400);
+        Assert.assertEquals(get("/webtables?latency=0").statusCode(), 200);
+    }
+}
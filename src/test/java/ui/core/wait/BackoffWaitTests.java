@@ -0,0 +1,65 @@
+package ui.core.wait;
+
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.TimeoutException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BackoffWaitTests {
+    // No browser involved: the conditions below never touch the driver
+    private final BackoffWait wait = new BackoffWait(null, Duration.ofSeconds(2), Duration.ofMillis(10), Duration.ofMillis(200), 2.0);
+
+    @Test(description = "A condition that becomes true after 60 ms is seen well before a fixed 500 ms poll would")
+    public void firstSuccess_landsBeforeFixedInterval() {
+        long readyAt = System.nanoTime() + Duration.ofMillis(60).toNanos();
+        long start = System.nanoTime();
+
+        Boolean result = wait.until(d -> System.nanoTime() >= readyAt);
+
+        long elapsed = Duration.ofNanos(System.nanoTime() - start).toMillis();
+        Assert.assertTrue(result);
+        Assert.assertTrue(elapsed < 250, "Expected success within 250 ms, took " + elapsed);
+    }
+
+    @Test(description = "Intervals grow by the factor and are capped")
+    public void intervals_backOffUpToCeiling() {
+        List<Long> polls = new ArrayList<>();
+        Assert.expectThrows(TimeoutException.class, () -> wait.withTimeout(Duration.ofMillis(1200)).until(d -> {
+            polls.add(System.nanoTime());
+            return false;
+        }));
+
+        List<Long> gaps = new ArrayList<>();
+        for (int i = 1; i < polls.size(); i++) gaps.add(Duration.ofNanos(polls.get(i) - polls.get(i - 1)).toMillis());
+        Assert.assertTrue(gaps.get(0) < 50, "First gap should be short: " + gaps);
+        Assert.assertTrue(gaps.get(4) >= 150, "Fifth gap should have backed off to ~160 ms: " + gaps);
+        Assert.assertTrue(gaps.stream().allMatch(g -> g < 300), "Gaps must stay near the 200 ms ceiling: " + gaps);
+    }
+
+    @Test(description = "Not-found errors are ignored by default and reported as the timeout cause")
+    public void ignoredException_isTimeoutCause() {
+        TimeoutException e = Assert.expectThrows(TimeoutException.class, () -> wait.withTimeout(Duration.ofMillis(100)).until(d -> {
+            throw new NoSuchElementException("missing");
+        }));
+        Assert.assertTrue(e.getCause() instanceof NoSuchElementException);
+    }
+
+    @Test(description = "Other exceptions propagate unless ignored for the call")
+    public void customIgnoredExceptions() {
+        Assert.expectThrows(IllegalStateException.class, () -> wait.until(d -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        AtomicInteger calls = new AtomicInteger();
+        String result = wait.ignoring(IllegalStateException.class).until(d -> {
+            if (calls.incrementAndGet() < 3) throw new IllegalStateException("not yet");
+            return "done";
+        });
+        Assert.assertEquals(result, "done");
+    }
+}
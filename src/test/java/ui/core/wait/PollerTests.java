@@ -0,0 +1,108 @@
+package ui.core.wait;
+
+import org.openqa.selenium.TimeoutException;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import ui.core.metrics.Metrics;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class PollerTests {
+    private final Poller poller = Poller.of(Duration.ofSeconds(2), Duration.ofMillis(10), Duration.ofMillis(200), 2.0)
+            .withProfiling(true);
+
+    @BeforeMethod
+    public void reset() {
+        WaitProfiler.reset();
+    }
+
+    @Test(description = "Returns the first truthy value and records the call in the wait profile")
+    public void until_returnsValueAndIsProfiled() {
+        AtomicInteger calls = new AtomicInteger();
+        String value = poller.until("third attempt", () -> calls.incrementAndGet() == 3 ? "ready" : null);
+
+        Assert.assertEquals(value, "ready");
+        WaitProfiler.SiteStats site = WaitProfiler.sites().get(0);
+        Assert.assertEquals(site.condition(), "poll");
+        Assert.assertEquals(site.locator(), "third attempt");
+        Assert.assertEquals(site.caller(), "PollerTests.until_returnsValueAndIsProfiled");
+        Assert.assertEquals(site.polls(), 3);
+        Assert.assertEquals(site.timeouts(), 0);
+    }
+
+    @Test(description = "Intervals back off from the initial interval and level off at the ceiling")
+    public void intervals_backOffWithJitter() {
+        List<Long> attempts = new ArrayList<>();
+        Assert.expectThrows(TimeoutException.class, () -> poller.withTimeout(Duration.ofMillis(1200)).withJitter(0.25)
+                .until("never", () -> attempts.add(System.nanoTime()) && false));
+
+        // Nominal gaps are 10, 20, 40, 80, 160, 200, 200... ms; only their relative sizes are asserted so a
+        // loaded machine (which stretches every gap) cannot fail the test
+        List<Long> gaps = new ArrayList<>();
+        for (int i = 1; i < attempts.size(); i++) gaps.add(attempts.get(i) - attempts.get(i - 1));
+        Assert.assertTrue(gaps.size() >= 6, "Expected at least six gaps within the timeout: " + gaps);
+        long first = gaps.get(0);
+        long backedOff = gaps.get(4);
+        long longest = gaps.stream().mapToLong(Long::longValue).max().orElseThrow();
+        Assert.assertTrue(backedOff > 2 * first, "Fifth gap (~16x the first) should have backed off: " + gaps);
+        Assert.assertTrue(longest < 4 * backedOff, "Gaps must level off near the ceiling, not keep doubling: " + gaps);
+    }
+
+    @Test(description = "Elapsed time and attempts go to Metrics under the description's kind")
+    public void until_isTimedInMetrics() {
+        Assert.assertEquals(Poller.metricName("row: Ann Lee"), "poll.row");
+        Assert.assertEquals(Poller.metricName("remote download"), "poll.remote-download");
+
+        int before = Metrics.timer("poll.poller-metrics").summary().count();
+        int attemptsBefore = Metrics.distribution("poll.poller-metrics.attempts").summary().count();
+        poller.until("poller metrics: first", () -> true);
+        poller.withTimeout(Duration.ofMillis(20)).poll("poller metrics: second", () -> false);
+        Assert.assertEquals(Metrics.timer("poll.poller-metrics").summary().count(), before + 2);
+        Assert.assertEquals(Metrics.distribution("poll.poller-metrics.attempts").summary().count(), attemptsBefore + 2);
+        Assert.assertTrue(Metrics.distribution("poll.poller-metrics.attempts").summary().min() >= 1);
+    }
+
+    @Test(description = "Only listed exceptions are retried; the last one becomes the timeout cause")
+    public void ignoredExceptions() {
+        TimeoutException e = Assert.expectThrows(TimeoutException.class, () -> poller.withTimeout(Duration.ofMillis(100))
+                .ignoring(IOException.class).until("io", () -> { throw new IOException("busy"); }));
+        Assert.assertTrue(e.getCause() instanceof IOException);
+
+        AtomicInteger calls = new AtomicInteger();
+        RuntimeException failed = Assert.expectThrows(RuntimeException.class, () -> poller.until("not ignored", () -> {
+            calls.incrementAndGet();
+            throw new IOException("broken");
+        }));
+        Assert.assertEquals(calls.get(), 1);
+        Assert.assertTrue(failed.getCause() instanceof IOException);
+    }
+
+    @Test(description = "Errors such as a failed assertion are retried when listed and rethrown as they are otherwise")
+    public void ignoredErrors() {
+        AtomicInteger calls = new AtomicInteger();
+        Assert.assertTrue(poller.ignoring(AssertionError.class).until("assertion", () -> {
+            if (calls.incrementAndGet() < 3) throw new AssertionError("not yet");
+            return true;
+        }));
+        Assert.assertEquals(calls.get(), 3);
+
+        AssertionError thrown = Assert.expectThrows(AssertionError.class,
+                () -> poller.until("assertion not ignored", () -> { throw new AssertionError("broken"); }));
+        Assert.assertEquals(thrown.getMessage(), "broken");
+    }
+
+    @Test(description = "poll() returns empty on timeout and counts it as a swallowed timeout")
+    public void poll_emptyOnTimeout() {
+        Assert.assertTrue(poller.withTimeout(Duration.ofMillis(50)).poll("absent", () -> false).isEmpty());
+
+        WaitProfiler.SiteStats site = WaitProfiler.sites().get(0);
+        Assert.assertEquals(site.timeouts(), 1);
+        Assert.assertEquals(site.swallowed(), 1);
+        Assert.assertTrue(site.total().toMillis() >= 50);
+    }
+}
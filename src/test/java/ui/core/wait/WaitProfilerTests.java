@@ -0,0 +1,87 @@
+package ui.core.wait;
+
+import org.openqa.selenium.TimeoutException;
+import org.testng.Assert;
+import org.testng.IInvokedMethod;
+import org.testng.ITestResult;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import ui.testing.Fakes;
+
+import java.util.List;
+
+public class WaitProfilerTests {
+    private static final long MS = 1_000_000;
+
+    @BeforeMethod
+    public void reset() {
+        WaitProfiler.reset();
+    }
+
+    @Test(description = "Sites are ranked by total wait time and attributed to the calling method and test")
+    public void sites_rankedByTotalTime() {
+        WaitProfiler.record("By.id: a", "clickable", 5 * MS, 1, WaitProfiler.Outcome.MET, null);
+        WaitProfiler.record("By.id: b", "visible", 40 * MS, 6, WaitProfiler.Outcome.MET, null);
+        WaitProfiler.record("By.id: a", "clickable", 15 * MS, 2, WaitProfiler.Outcome.MET, null);
+
+        List<WaitProfiler.SiteStats> sites = WaitProfiler.sites();
+        Assert.assertEquals(sites.size(), 2);
+        Assert.assertEquals(sites.get(0).locator(), "By.id: b");
+
+        WaitProfiler.SiteStats a = sites.get(1);
+        Assert.assertEquals(a.caller(), "WaitProfilerTests.sites_rankedByTotalTime");
+        Assert.assertEquals(a.count(), 2);
+        Assert.assertEquals(a.polls(), 3);
+        Assert.assertEquals(a.mean().toMillis(), 10);
+        Assert.assertEquals(a.max().toMillis(), 15);
+
+        WaitProfiler.TestStats test = WaitProfiler.tests().get(0);
+        Assert.assertEquals(test.test(), WaitProfilerTests.class.getName() + ".sites_rankedByTotalTime");
+        Assert.assertEquals(test.waits(), 3);
+    }
+
+    @Test(description = "A timeout the test did not fail with counts as swallowed, one it failed with does not")
+    public void timeouts_swallowedUnlessTheTestFailedWithThem() {
+        TimeoutException caught = new TimeoutException("caught by a page object");
+        TimeoutException thrown = new TimeoutException("failed the test");
+        WaitProfiler.record("By.id: overlay", "presence", 10_000 * MS, 40, WaitProfiler.Outcome.TIMEOUT, caught);
+        WaitProfiler.testFinished(null);
+        WaitProfiler.record("By.id: overlay", "presence", 10_000 * MS, 40, WaitProfiler.Outcome.TIMEOUT, thrown);
+        WaitProfiler.testFinished(new AssertionError("wrapped", thrown));
+
+        WaitProfiler.SiteStats site = WaitProfiler.sites().get(0);
+        Assert.assertEquals(site.timeouts(), 2);
+        Assert.assertEquals(site.swallowed(), 1);
+        Assert.assertTrue(site.alwaysTimesOut());
+        Assert.assertEquals(WaitProfiler.tests().get(0).swallowed(), 1);
+    }
+
+    @Test(description = "A wait that returned false on its bound is swallowed immediately; one success clears the always-timeout flag")
+    public void nonThrowingTimeout_andAlwaysTimesOutFlag() {
+        WaitProfiler.record("div.ReactTable", "domSettled", 10_000 * MS, 1, WaitProfiler.Outcome.TIMEOUT, null);
+        Assert.assertEquals(WaitProfiler.sites().get(0).swallowed(), 1);
+        Assert.assertTrue(WaitProfiler.sites().get(0).alwaysTimesOut());
+
+        WaitProfiler.record("div.ReactTable", "domSettled", 60 * MS, 1, WaitProfiler.Outcome.MET, null);
+        Assert.assertFalse(WaitProfiler.sites().get(0).alwaysTimesOut());
+    }
+
+    @Test(description = "A timeout in a configuration method is resolved when it finishes, not charged to the next test")
+    public void configurationMethod_resolvesItsOwnTimeouts() {
+        WaitProfileReporter reporter = new WaitProfileReporter();
+        TimeoutException inSetUp = new TimeoutException("caught in @BeforeMethod");
+        IInvokedMethod setUp = (IInvokedMethod) Fakes.proxy("setUp",
+                (proxy, method, args) -> method.getName().equals("isConfigurationMethod"), IInvokedMethod.class);
+        ITestResult passed = (ITestResult) Fakes.proxy("passed", (proxy, method, args) -> null, ITestResult.class);
+
+        reporter.beforeInvocation(setUp, passed);
+        WaitProfiler.record("By.id: banner", "visible", 1_000 * MS, 10, WaitProfiler.Outcome.TIMEOUT, inSetUp);
+        reporter.afterInvocation(setUp, passed);
+        Assert.assertEquals(WaitProfiler.sites().get(0).swallowed(), 1);
+
+        // The next test fails with that same exception, but it was never the test's
+        WaitProfiler.testFinished(new AssertionError("wrapped", inSetUp));
+        Assert.assertEquals(WaitProfiler.sites().get(0).swallowed(), 1);
+        Assert.assertEquals(WaitProfiler.sites().get(0).timeouts(), 1);
+    }
+}
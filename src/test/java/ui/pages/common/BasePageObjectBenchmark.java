@@ -0,0 +1,115 @@
+package ui.pages.common;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import ui.core.config.FormFillMode;
+import ui.core.driver.DriverFactory;
+import ui.core.server.LocalDemoQaServer;
+import ui.pages.webtables.EmployeeTablePage;
+import ui.pages.webtables.RegistrationModalPage;
+import ui.utils.SeleniumUtils;
+
+import java.time.Duration;
+
+/**
+ * WebDriver commands per BasePageObject action: the previous wait-then-find-again implementation
+ * versus resolving the element once from the wait condition. Runs against the local demoqa stand-in.
+ * Not part of the default surefire run: mvn test -Dtest=BasePageObjectBenchmark
+ */
+public class BasePageObjectBenchmark extends SeleniumUtils {
+    private static final By searchBox = By.id("searchBox");
+    private String pageUrl;
+
+    @BeforeClass
+    public void startServer() {
+        pageUrl = LocalDemoQaServer.start(0, Duration.ZERO) + "/webtables";
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        LocalDemoQaServer.stop();
+    }
+
+    private long commands(Runnable action) {
+        long before = DriverFactory.getCommandCount();
+        action.run();
+        return DriverFactory.getCommandCount() - before;
+    }
+
+    @Test(description = "find, isElementClickable and safeSendKeys need fewer round trips than before")
+    public void commandsPerAction_beforeAndAfter() {
+        BasePageObject page = new BasePageObject();
+        page.openUrl(pageUrl);
+        page.find(searchBox);
+
+        // Previous implementations, verbatim apart from inlining
+        long legacyFind = commands(() -> {
+            getWaitUtils().until(ExpectedConditions.elementToBeClickable(searchBox));
+            getDriver().findElement(searchBox);
+        });
+        long legacyClickable = commands(() -> {
+            getWaitUtils().waitForElementToBeVisible(searchBox);
+            getWaitUtils().waitForElementToBeClickable(searchBox);
+            WebElement element = getDriver().findElement(searchBox);
+            Assert.assertTrue(element.isDisplayed() && element.isEnabled());
+        });
+        long legacySendKeys = commands(() -> {
+            getWaitUtils().waitForElementToBeVisible(searchBox);
+            getWaitUtils().waitForElementToBeClickable(searchBox);
+            WebElement element = getDriver().findElement(searchBox);
+            element.clear();
+            element.sendKeys("Cierra");
+            getWaitUtils().waitForElementToBeClickable(searchBox);
+            getDriver().findElement(searchBox).getDomProperty("value");
+        });
+
+        long find = commands(() -> page.find(searchBox));
+        long clickable = commands(() -> Assert.assertTrue(page.isElementClickable(searchBox)));
+        long sendKeys = commands(() -> page.safeSendKeys(searchBox, "Cierra"));
+
+        System.out.printf("Commands per action (before -> after): find %d -> %d, isElementClickable %d -> %d, safeSendKeys %d -> %d%n",
+                legacyFind, find, legacyClickable, clickable, legacySendKeys, sendKeys);
+        Assert.assertTrue(find < legacyFind, "find");
+        Assert.assertTrue(clickable < legacyClickable, "isElementClickable");
+        Assert.assertTrue(sendKeys < legacySendKeys, "safeSendKeys");
+    }
+
+    @Test(description = "A second fillForm on the same modal is served from the element cache")
+    public void fillForm_cachedElements() {
+        EmployeeTablePage tablePage = new EmployeeTablePage(getDriver());
+        RegistrationModalPage modalPage = new RegistrationModalPage(getDriver());
+        tablePage.openUrl(pageUrl);
+        tablePage.clickAddNew();
+        modalPage.waitForVisible();
+
+        long first = commands(() -> modalPage.fillForm("Ada", "Lovelace", "ada@example.com", "36", "1000", "Math"));
+        long second = commands(() -> modalPage.fillForm("Alan", "Turing", "alan@example.com", "41", "2000", "Crypto"));
+
+        System.out.printf("fillForm commands: cold %d, cached %d, cache %s%n", first, second, modalPage.getElementCacheStats());
+        Assert.assertTrue(second < first, "cached fillForm should need fewer commands");
+        Assert.assertEquals(modalPage.getElementCacheStats().misses(), 6);
+    }
+
+    @Test(description = "Script fill sets the six modal fields in one command instead of typing each")
+    public void fillForm_scriptVersusKeys() {
+        EmployeeTablePage tablePage = new EmployeeTablePage(getDriver());
+        tablePage.openUrl(pageUrl);
+        tablePage.clickAddNew();
+        RegistrationModalPage keysModal = new RegistrationModalPage(getDriver());
+        keysModal.waitForVisible();
+        long keys = commands(() -> keysModal.fillForm("Ada", "Lovelace", "ada@example.com", "36", "1000", "Math", FormFillMode.KEYS));
+
+        // Fresh page object so the element cache does not favour either mode
+        RegistrationModalPage scriptModal = new RegistrationModalPage(getDriver());
+        long script = commands(() -> scriptModal.fillForm("Alan", "Turing", "alan@example.com", "41", "2000", "Crypto", FormFillMode.SCRIPT));
+
+        System.out.printf("fillForm commands: keys %d, script %d%n", keys, script);
+        Assert.assertEquals(script, 1, "all fields should stick on the first script call");
+        Assert.assertEquals(scriptModal.elementValue(scriptModal.emailInput), "alan@example.com");
+    }
+}
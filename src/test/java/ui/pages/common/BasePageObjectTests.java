@@ -0,0 +1,107 @@
+package ui.pages.common;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.support.pagefactory.ByChained;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import ui.core.config.FormFillMode;
+import ui.core.server.LocalDemoQaServer;
+import ui.models.Employee;
+import ui.pages.webtables.EmployeeTablePage;
+import ui.pages.webtables.RegistrationModalPage;
+import ui.utils.SeleniumUtils;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Form filling of BasePageObject against the local demoqa stand-in, whose Add form tracks values
+ * the way React does.
+ */
+public class BasePageObjectTests extends SeleniumUtils {
+    // A hidden and a read-only field next to the real ones, which a script cannot fill
+    private static final String ADD_UNFILLABLE_FIELDS = """
+            var form = document.getElementById('userForm');
+            form.insertAdjacentHTML('beforeend',
+                '<input type="text" id="hiddenField" style="display:none">' +
+                '<input type="text" id="readOnlyField" readonly>');
+            """;
+
+    private String pageUrl;
+    private boolean startedServer;
+
+    @BeforeClass
+    public void startServer() {
+        // LocalServerListener may already run it for the whole suite
+        startedServer = !LocalDemoQaServer.isRunning();
+        pageUrl = LocalDemoQaServer.start(0, Duration.ZERO) + "/webtables";
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        if (startedServer) LocalDemoQaServer.stop();
+    }
+
+    private RegistrationModalPage openAddForm() {
+        EmployeeTablePage tablePage = new EmployeeTablePage(getDriver());
+        tablePage.openUrl(pageUrl);
+        tablePage.clickAddNew();
+        RegistrationModalPage modal = new RegistrationModalPage(getDriver());
+        modal.waitForVisible();
+        return modal;
+    }
+
+    private String value(By locator) {
+        return getDriver().findElement(locator).getDomProperty("value");
+    }
+
+    @Test(description = "SCRIPT fill sets every field so that the form submits them as typed values")
+    public void scriptFill_valuesStick() {
+        Employee emp = testData().employee("Script");
+        RegistrationModalPage modal = openAddForm();
+
+        modal.fillForm(emp.getFirstName(), emp.getLastName(), emp.getEmail(), emp.getAge(), emp.getSalary(),
+                emp.getDepartment(), FormFillMode.SCRIPT);
+        Assert.assertEquals(value(modal.firstNameInput), emp.getFirstName());
+        Assert.assertEquals(value(modal.emailInput), emp.getEmail());
+        Assert.assertEquals(value(modal.departmentInput), emp.getDepartment());
+
+        modal.submit();
+        modal.waitForNotVisible();
+        Map<String, String> row = new EmployeeTablePage(getDriver()).snapshot()
+                .findByEmail(emp.getEmail()).orElseThrow().data();
+        Assert.assertEquals(row.get("First Name"), emp.getFirstName());
+        Assert.assertEquals(row.get("Age"), emp.getAge());
+        Assert.assertEquals(row.get("Salary"), emp.getSalary());
+    }
+
+    @Test(description = "Hidden, read-only and non-remotable locators are left to safeSendKeys")
+    public void scriptFill_fallsBackToTyping() {
+        RegistrationModalPage modal = openAddForm();
+        ((JavascriptExecutor) getDriver()).executeScript(ADD_UNFILLABLE_FIELDS);
+        By hidden = By.id("hiddenField");
+        By readOnly = By.id("readOnlyField");
+        By chained = new ByChained(By.id("userForm"), modal.lastNameInput);
+
+        Map<By, String> values = new LinkedHashMap<>();
+        values.put(modal.firstNameInput, "Ann");
+        values.put(hidden, "x");
+        values.put(readOnly, "y");
+        values.put(chained, "Lee");
+        Assert.assertEquals(modal.setValuesByScript(values), List.of(hidden, readOnly, chained));
+        Assert.assertEquals(value(modal.firstNameInput), "Ann");
+        Assert.assertEquals(value(readOnly), "");
+
+        // Only the field the script could not reach is typed
+        values.remove(hidden);
+        values.remove(readOnly);
+        modal.fillFields(values, FormFillMode.SCRIPT);
+        Assert.assertEquals(value(modal.firstNameInput), "Ann");
+        Assert.assertEquals(value(modal.lastNameInput), "Lee");
+    }
+}
@@ -0,0 +1,76 @@
+package ui.pages.common;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import ui.testing.Fakes;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ElementCacheTests {
+    private static final By searchBox = By.id("searchBox");
+    private final WebElement element = Fakes.element("searchBox");
+
+    @Test(description = "Cached elements are served as hits, unknown locators are misses")
+    public void hitsAndMisses() {
+        ElementCache cache = new ElementCache(() -> 0);
+
+        Assert.assertNull(cache.get(searchBox));
+        cache.put(searchBox, element);
+        Assert.assertSame(cache.get(By.id("searchBox")), element, "equal locators share an entry");
+        Assert.assertSame(cache.get(searchBox), element);
+
+        Assert.assertEquals(cache.getStats(), new ElementCache.Stats(2, 1, 0));
+    }
+
+    @Test(description = "A navigation drops every cached element")
+    public void navigation_invalidatesAll() {
+        AtomicInteger navigations = new AtomicInteger();
+        ElementCache cache = new ElementCache(navigations::get);
+        cache.put(searchBox, element);
+        cache.put(By.id("addNewRecordButton"), element);
+
+        navigations.incrementAndGet();
+
+        Assert.assertNull(cache.get(searchBox));
+        Assert.assertNull(cache.get(By.id("addNewRecordButton")));
+        Assert.assertEquals(cache.getStats().invalidations(), 2);
+    }
+
+    @Test(description = "A stale entry is dropped once")
+    public void invalidate_singleEntry() {
+        ElementCache cache = new ElementCache(() -> 0);
+        cache.put(searchBox, element);
+
+        cache.invalidate(searchBox);
+        cache.invalidate(searchBox);
+
+        Assert.assertNull(cache.get(searchBox));
+        Assert.assertEquals(cache.getStats().invalidations(), 1);
+    }
+
+    @Test(description = "Content-addressed locators always go to the browser")
+    public void contentAddressed_neverCached() {
+        ElementCache cache = new ElementCache(() -> 0);
+        By rowText = new RowText();
+
+        Assert.assertSame(cache.put(rowText, element), element);
+        Assert.assertNull(cache.get(rowText));
+        Assert.assertEquals(cache.getStats(), new ElementCache.Stats(0, 1, 0));
+    }
+
+    private static final class RowText extends By implements ElementCache.ContentAddressed {
+        @Override
+        public List<WebElement> findElements(SearchContext context) {
+            return List.of();
+        }
+
+        @Override
+        public String toString() {
+            return "By.rowText: Ann";
+        }
+    }
+}
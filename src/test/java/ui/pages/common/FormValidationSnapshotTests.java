@@ -0,0 +1,44 @@
+package ui.pages.common;
+
+import org.openqa.selenium.By;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import ui.testing.Fakes;
+
+import java.util.List;
+import java.util.Map;
+
+public class FormValidationSnapshotTests {
+
+    private static Map<String, Object> field(String id, String value, String message, boolean valueMissing, boolean typeMismatch) {
+        return Fakes.map("id", id, "name", "", "value", value, "valid", message.isEmpty(), "message", message,
+                "valueMissing", valueMissing, "typeMismatch", typeMismatch, "patternMismatch", false);
+    }
+
+    @Test(description = "Fields are keyed by id and carry validity, message, flags and value")
+    public void from_mapsFields() {
+        FormValidationSnapshot snapshot = FormValidationSnapshot.from(List.of(
+                field("firstName", "Ada", "", false, false),
+                field("userEmail", "not-an-email", "Please include an '@' in the email address.", false, true),
+                field("age", "", "Please fill out this field.", true, false)));
+
+        Assert.assertFalse(snapshot.isValid());
+        Assert.assertEquals(snapshot.invalidFields().stream().map(FormValidationSnapshot.Field::id).toList(), List.of("userEmail", "age"));
+
+        FormValidationSnapshot.Field email = snapshot.field(By.id("userEmail")).orElseThrow();
+        Assert.assertTrue(email.typeMismatch());
+        Assert.assertEquals(email.value(), "not-an-email");
+        Assert.assertTrue(snapshot.field("age").orElseThrow().valueMissing());
+        Assert.assertEquals(snapshot.field("firstName").orElseThrow().message(), "");
+    }
+
+    @Test(description = "Only By.id locators map to fields")
+    public void field_byLocatorType() {
+        FormValidationSnapshot snapshot = FormValidationSnapshot.from(List.of(field("age", "36", "", false, false)));
+
+        Assert.assertTrue(snapshot.field(By.id("age")).isPresent());
+        Assert.assertTrue(snapshot.field(By.cssSelector("#age")).isEmpty());
+        Assert.assertTrue(snapshot.field(By.id("salary")).isEmpty());
+        Assert.assertTrue(FormValidationSnapshot.from(null).isValid());
+    }
+}
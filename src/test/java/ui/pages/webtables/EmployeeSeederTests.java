@@ -0,0 +1,24 @@
+package ui.pages.webtables;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+
+public class EmployeeSeederTests {
+
+    @Test(description = "A batch's script timeout follows its size up to the cap")
+    public void batchTimeout_followsBatchSize() {
+        Duration step = Duration.ofSeconds(10);
+        Assert.assertEquals(EmployeeSeeder.batchTimeout(step, 1), Duration.ofSeconds(30));
+        Assert.assertEquals(EmployeeSeeder.batchTimeout(step, 5), Duration.ofSeconds(110));
+        Assert.assertEquals(EmployeeSeeder.batchTimeout(step, EmployeeSeeder.BATCH), EmployeeSeeder.MAX_BATCH_TIMEOUT);
+    }
+
+    @Test(description = "A step timeout longer than the cap still leaves room for a hung step")
+    public void batchTimeout_neverBelowThreeSteps() {
+        Duration step = Duration.ofMinutes(4);
+        Assert.assertEquals(EmployeeSeeder.batchTimeout(step, 1), Duration.ofMinutes(12));
+        Assert.assertEquals(EmployeeSeeder.batchTimeout(step, EmployeeSeeder.BATCH), Duration.ofMinutes(12));
+    }
+}
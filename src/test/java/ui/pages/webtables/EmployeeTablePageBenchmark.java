@@ -0,0 +1,119 @@
+package ui.pages.webtables;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import ui.core.server.LocalDemoQaServer;
+import ui.models.Employee;
+import ui.utils.SeleniumUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Wall-clock cost of EmployeeTablePage.waitForLoadingToFinish (the previous presence-of-overlay wait
+ * versus the in-browser settle wait) and of seeding rows (modal flow versus seed). Runs against the local demoqa stand-in.
+ * Not part of the default surefire run: mvn test -Dtest=EmployeeTablePageBenchmark
+ */
+public class EmployeeTablePageBenchmark extends SeleniumUtils {
+    private static final By loadingOverlay = By.cssSelector("div.-loading");
+    private String baseUrl;
+
+    @BeforeClass
+    public void startServer() {
+        baseUrl = LocalDemoQaServer.start(0, Duration.ZERO);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        LocalDemoQaServer.stop();
+    }
+
+    private static long millis(Runnable action) {
+        long start = System.nanoTime();
+        action.run();
+        return Duration.ofNanos(System.nanoTime() - start).toMillis();
+    }
+
+    // Previous waitForLoadingToFinish, verbatim
+    private void legacyWaitForLoadingToFinish() {
+        try {
+            getWaitUtils().waitForElementPresence(loadingOverlay);
+        } catch (Exception ignored) { }
+    }
+
+    @Test(description = "Without a loading overlay the old wait ran into the full timeout")
+    public void overlayNeverRendered() {
+        EmployeeTablePage tablePage = new EmployeeTablePage(getDriver());
+        tablePage.openUrl(baseUrl + "/webtables");
+        ((JavascriptExecutor) getDriver()).executeScript("document.querySelector('div.-loading').remove();");
+
+        long legacy = millis(this::legacyWaitForLoadingToFinish);
+        long settled = millis(tablePage::waitForLoadingToFinish);
+
+        System.out.printf("waitForLoadingToFinish without overlay: legacy %d ms, settled %d ms%n", legacy, settled);
+        Assert.assertTrue(settled * 10 < legacy, "settle wait should return within the quiet window");
+    }
+
+    @Test(description = "With a slow re-render the old wait returned before the table changed, so callers had to poll")
+    public void searchThenFind_slowRender() {
+        EmployeeTablePage tablePage = new EmployeeTablePage(getDriver());
+
+        // Previous search + the polling loop tests wrapped around it
+        tablePage.openUrl(baseUrl + "/webtables?loadingDelay=300");
+        int[] legacyReads = { 0 };
+        long legacy = millis(() -> {
+            tablePage.safeSendKeys(EmployeeTablePage.searchBox, "Kierra");
+            legacyWaitForLoadingToFinish();
+            long end = System.currentTimeMillis() + 3000;
+            while (System.currentTimeMillis() < end) {
+                legacyReads[0]++;
+                if (TableSnapshot.capture((JavascriptExecutor) getDriver()).dataRows().size() == 1) break;
+                try { Thread.sleep(200); } catch (InterruptedException ignored) { }
+            }
+        });
+
+        tablePage.openUrl(baseUrl + "/webtables?loadingDelay=300");
+        long settled = millis(() -> tablePage.search("Kierra"));
+        int rows = tablePage.snapshot().dataRows().size();
+
+        System.out.printf("search + find with 300 ms render: legacy %d ms (%d reads), settled %d ms (1 read)%n",
+                legacy, legacyReads[0], settled);
+        Assert.assertEquals(rows, 1, "table should be filtered on the first read after the settle wait");
+    }
+
+    private static List<Employee> employees(String prefix, int count) {
+        return IntStream.range(0, count).mapToObj(i -> Employee.builder()
+                .firstName(prefix + i).lastName("Seed" + i).email(prefix.toLowerCase() + i + "@example.com")
+                .age("30").salary(String.valueOf(1000 + i)).department("Bench").build()).toList();
+    }
+
+    @Test(description = "Seeding through the in-browser batch costs a fraction of driving the modal per row")
+    public void seed_versusModalFlow() {
+        EmployeeTablePage tablePage = new EmployeeTablePage(getDriver());
+        RegistrationModalPage modalPage = new RegistrationModalPage(getDriver());
+        tablePage.openUrl(baseUrl + "/webtables");
+
+        List<Employee> viaModal = employees("Modal", 20);
+        long modal = millis(() -> viaModal.forEach(e -> {
+            tablePage.clickAddNew();
+            modalPage.waitForVisible();
+            modalPage.fillForm(e.getFirstName(), e.getLastName(), e.getEmail(), e.getAge(), e.getSalary(), e.getDepartment());
+            modalPage.submit();
+            modalPage.waitForNotVisible();
+        }));
+
+        List<Employee> viaSeed = employees("Seed", 2000);
+        SeedResult[] result = new SeedResult[1];
+        long seeded = millis(() -> result[0] = tablePage.seed(viaSeed));
+
+        System.out.printf("modal flow: %.1f ms/row, seed: %.2f ms/row (%d rows)%n",
+                modal / 20.0, seeded / 2000.0, result[0].inserted());
+        Assert.assertEquals(result[0].inserted(), 2000);
+        Assert.assertTrue(result[0].rejected().isEmpty());
+    }
+}
@@ -0,0 +1,150 @@
+package ui.pages.webtables;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import ui.core.server.LocalDemoQaServer;
+import ui.models.Employee;
+import ui.utils.SeleniumUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * EmployeeTablePage against the local demoqa stand-in, so the page's scripts are exercised on a
+ * known table without depending on demoqa.com.
+ */
+public class EmployeeTablePageTests extends SeleniumUtils {
+    // Drops the last row group and puts a copy of the first, renamed, in front of it
+    private static final String SHIFT_ROWS = """
+            var tbody = document.querySelector('div.rt-tbody');
+            tbody.lastElementChild.remove();
+            var inserted = tbody.firstElementChild.cloneNode(true);
+            var cells = inserted.querySelectorAll('div.rt-td');
+            cells[0].textContent = 'Inserted';
+            cells[1].textContent = 'Row';
+            tbody.insertBefore(inserted, tbody.firstElementChild);
+            """;
+
+    private static final String TABLE = "div.ReactTable";
+    private static final String ACTIVE_LOADING = "div.-loading.-active";
+
+    private String baseUrl;
+    private boolean startedServer;
+
+    @BeforeClass
+    public void startServer() {
+        // LocalServerListener may already run it for the whole suite
+        startedServer = !LocalDemoQaServer.isRunning();
+        baseUrl = LocalDemoQaServer.start(0, Duration.ZERO);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        if (startedServer) LocalDemoQaServer.stop();
+    }
+
+    private EmployeeTablePage open(String query) {
+        EmployeeTablePage tablePage = new EmployeeTablePage(getDriver());
+        tablePage.openUrl(baseUrl + "/webtables" + query);
+        return tablePage;
+    }
+
+    private static Map<String, Map<String, String>> rowsByEmail(EmployeeTablePage tablePage) {
+        return tablePage.streamRows(RowPaging.LARGEST_PAGE_SIZE)
+                .collect(Collectors.toMap(row -> row.get("Email"), TableSnapshot.Row::data, (a, b) -> a));
+    }
+
+    @Test(description = "Seeding more than one batch inserts every valid employee and rejects an over-long name")
+    public void seed_spansBatchesAndRejectsInvalid() {
+        EmployeeTablePage tablePage = open("");
+        int before = rowsByEmail(tablePage).size();
+
+        List<Employee> employees = new ArrayList<>(testData().employees("Seed", EmployeeSeeder.BATCH + 20));
+        Employee tooLong = testData().employee("X".repeat(30));
+        employees.add(EmployeeSeeder.BATCH / 2, tooLong);
+
+        SeedResult result = tablePage.seed(employees);
+
+        Assert.assertEquals(result.requested(), EmployeeSeeder.BATCH + 21);
+        Assert.assertEquals(result.inserted(), EmployeeSeeder.BATCH + 20);
+        Assert.assertEquals(result.rejected(), List.of(tooLong));
+
+        Map<String, Map<String, String>> rows = rowsByEmail(tablePage);
+        Assert.assertEquals(rows.size(), before + EmployeeSeeder.BATCH + 20);
+        Assert.assertFalse(rows.containsKey(tooLong.getEmail()));
+        for (Employee e : List.of(employees.get(0), employees.get(EmployeeSeeder.BATCH), employees.get(employees.size() - 1))) {
+            Map<String, String> row = rows.get(e.getEmail());
+            Assert.assertNotNull(row, "No row for " + e.getEmail());
+            Assert.assertEquals(row.get("First Name"), e.getFirstName());
+            Assert.assertEquals(row.get("Last Name"), e.getLastName());
+            Assert.assertEquals(row.get("Department"), e.getDepartment());
+        }
+    }
+
+    @Test(description = "Removing the last row and inserting one at the top keeps the count but forces a full re-read")
+    public void rowIndex_sameCountReorder() {
+        EmployeeTablePage tablePage = open("");
+        List<String> before = tablePage.snapshot().rows().stream().map(row -> row.get("First Name")).toList();
+        long fullRefreshes = tablePage.getRowIndexStats().fullRefreshes();
+
+        // Outside the app's own render, which only ever swaps groups in place
+        ((JavascriptExecutor) getDriver()).executeScript(SHIFT_ROWS);
+
+        TableSnapshot snapshot = tablePage.snapshot();
+        List<String> after = snapshot.rows().stream().map(row -> row.get("First Name")).toList();
+        Assert.assertEquals(after.size(), before.size());
+        Assert.assertEquals(after.get(0), "Inserted");
+        Assert.assertEquals(after.subList(1, after.size()), before.subList(0, before.size() - 1));
+        Assert.assertEquals(snapshot.find("Inserted", "Row").orElseThrow().index(), 0);
+        Assert.assertEquals(tablePage.getRowIndexStats().fullRefreshes(), fullRefreshes + 1);
+    }
+
+    @Test(description = "An idle table settles within a few quiet windows")
+    public void settle_idleTableReturnsQuickly() {
+        open("");
+        Duration bound = Duration.ofSeconds(5);
+        long start = System.nanoTime();
+        Assert.assertTrue(getWaitUtils().waitForDomToSettle(TABLE, ACTIVE_LOADING, bound));
+        long elapsed = Duration.ofNanos(System.nanoTime() - start).toMillis();
+        Assert.assertTrue(elapsed < bound.toMillis() / 5, "Idle table should settle at once: " + elapsed + " ms");
+    }
+
+    @Test(description = "The wait lasts while ?loadingDelay= keeps the loading overlay active after a re-render")
+    public void settle_waitsForLoadingOverlay() {
+        EmployeeTablePage tablePage = open("?loadingDelay=800");
+        TableSnapshot.Row first = tablePage.snapshot().dataRows().get(0);
+        first.delete().click();
+
+        long start = System.nanoTime();
+        tablePage.waitForLoadingToFinish();
+        long elapsed = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        Assert.assertTrue(elapsed >= 600, "Should wait for the 800 ms loading delay: " + elapsed + " ms");
+        Assert.assertTrue(getDriver().findElements(By.cssSelector(ACTIVE_LOADING)).isEmpty());
+        Assert.assertTrue(tablePage.snapshot().find(first.get("First Name"), first.get("Last Name")).isEmpty());
+    }
+
+    @Test(description = "A table that never stops mutating returns false once the bound has passed")
+    public void settle_falseWhenNeverQuiet() {
+        open("");
+        ((JavascriptExecutor) getDriver()).executeScript(
+                "window.__tick = setInterval(function () { document.querySelector('div.rt-tbody').dataset.tick = Date.now(); }, 10);");
+        try {
+            Duration bound = Duration.ofMillis(500);
+            long start = System.nanoTime();
+            Assert.assertFalse(getWaitUtils().waitForDomToSettle(TABLE, ACTIVE_LOADING, bound));
+            long elapsed = Duration.ofNanos(System.nanoTime() - start).toMillis();
+            Assert.assertTrue(elapsed >= bound.toMillis(), "Returned before the bound: " + elapsed + " ms");
+            Assert.assertTrue(elapsed < 4 * bound.toMillis(), "Should return soon after the bound: " + elapsed + " ms");
+        } finally {
+            ((JavascriptExecutor) getDriver()).executeScript("clearInterval(window.__tick);");
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package ui.pages.webtables;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+public class PagedRowsTests {
+
+    // pages x rowsPerPage rows named "p<page>r<row>"
+    private static List<TableSnapshot.Row> page(int page, int rowsPerPage) {
+        return IntStream.range(0, rowsPerPage)
+                .mapToObj(r -> new TableSnapshot.Row(r, null, Map.of("First Name", "p" + page + "r" + r, "Last Name", "x"), null, null))
+                .toList();
+    }
+
+    @Test(description = "findFirst stops at the page holding the match and never asks for the page count when page 1 has it")
+    public void findFirst_shortCircuits() {
+        List<Integer> loaded = new ArrayList<>();
+        AtomicInteger countReads = new AtomicInteger();
+
+        var first = PagedRows.stream(1, () -> { countReads.incrementAndGet(); return 5; }, p -> { loaded.add(p); return page(p, 3); })
+                .filter(r -> r.get("First Name").equals("p1r1"))
+                .findFirst();
+
+        Assert.assertTrue(first.isPresent());
+        Assert.assertEquals(loaded, List.of(1));
+        Assert.assertEquals(countReads.get(), 0);
+
+        loaded.clear();
+        var later = PagedRows.stream(1, () -> 5, p -> { loaded.add(p); return page(p, 3); })
+                .filter(r -> r.get("First Name").equals("p3r0"))
+                .findFirst();
+
+        Assert.assertTrue(later.isPresent());
+        Assert.assertEquals(loaded, List.of(1, 2, 3));
+    }
+
+    @Test(description = "A full traversal visits every page once, including empty ones, and stops after the last")
+    public void traversal_visitsEveryPage() {
+        List<Integer> loaded = new ArrayList<>();
+
+        long rows = PagedRows.stream(1, () -> 3, p -> { loaded.add(p); return p == 2 ? List.of() : page(p, 2); }).count();
+
+        Assert.assertEquals(rows, 4);
+        Assert.assertEquals(loaded, List.of(1, 2, 3));
+        Assert.assertEquals(PagedRows.stream(1, () -> 1, p -> List.of()).count(), 0);
+    }
+}
@@ -0,0 +1,72 @@
+package ui.pages.webtables;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import ui.testing.Fakes;
+
+import java.util.List;
+import java.util.Map;
+
+public class TableIndexTests {
+
+    private static Map<String, Object> result(boolean full, int count, List<Map<String, Object>> rows) {
+        return Map.of("full", full, "count", count, "rows", rows);
+    }
+
+    @Test(description = "An incremental refresh replaces only the changed rows and keeps the rest")
+    public void apply_mergesChangedRows() {
+        TableIndex index = new TableIndex();
+        index.apply(result(true, 3, List.of(
+                Fakes.rowGroup(0, "Cierra", "Vega", "39", "cierra@example.com", "10000", "Insurance"),
+                Fakes.rowGroup(1, "Alden", "Cantrell", "45", "alden@example.com", "12000", "Compliance"),
+                Fakes.rowGroup(2, "", "", "", "", "", ""))));
+
+        TableSnapshot snapshot = index.apply(result(false, 3, List.of(
+                Fakes.rowGroup(2, "Kierra", "Gentry", "29", "kierra@example.com", "2000", "Legal"))));
+
+        Assert.assertEquals(snapshot.size(), 3);
+        Assert.assertEquals(snapshot.find("Cierra", "Vega").orElseThrow().index(), 0);
+        Assert.assertEquals(snapshot.findByEmail("kierra@example.com").orElseThrow().get("Department"), "Legal");
+        Assert.assertEquals(index.getStats(), new TableIndex.Stats(1, 1, 4));
+    }
+
+    @Test(description = "A full refresh drops rows the table no longer has")
+    public void apply_fullRefreshReplacesEverything() {
+        TableIndex index = new TableIndex();
+        index.apply(result(true, 2, List.of(
+                Fakes.rowGroup(0, "Cierra", "Vega", "39", "cierra@example.com", "10000", "Insurance"),
+                Fakes.rowGroup(1, "Alden", "Cantrell", "45", "alden@example.com", "12000", "Compliance"))));
+
+        TableSnapshot snapshot = index.apply(result(true, 1, List.of(
+                Fakes.rowGroup(0, "Alden", "Cantrell", "45", "alden@example.com", "12000", "Compliance"))));
+
+        Assert.assertEquals(snapshot.size(), 1);
+        Assert.assertTrue(snapshot.find("Cierra", "Vega").isEmpty());
+        Assert.assertTrue(snapshot.findByEmail("cierra@example.com").isEmpty());
+        Assert.assertEquals(index.getStats().fullRefreshes(), 2);
+    }
+
+    @Test(description = "An unchanged table costs a round trip but transfers no rows")
+    public void apply_noChanges() {
+        TableIndex index = new TableIndex();
+        index.apply(result(true, 1, List.of(Fakes.rowGroup(0, "Cierra", "Vega", "39", "cierra@example.com", "10000", "Insurance"))));
+
+        TableSnapshot snapshot = index.apply(result(false, 1, List.of()));
+
+        Assert.assertTrue(snapshot.find("Cierra", "Vega").isPresent());
+        Assert.assertEquals(index.getStats(), new TableIndex.Stats(1, 1, 1));
+    }
+
+    @Test(description = "An incremental result that does not line up with the rows held asks for a full read")
+    public void needsFullRead_whenResultDoesNotLineUp() {
+        TableIndex index = new TableIndex();
+        index.apply(result(true, 2, List.of(
+                Fakes.rowGroup(0, "Cierra", "Vega", "39", "cierra@example.com", "10000", "Insurance"),
+                Fakes.rowGroup(1, "Alden", "Cantrell", "45", "alden@example.com", "12000", "Compliance"))));
+
+        Assert.assertFalse(index.needsFullRead(result(false, 2, List.of(Fakes.rowGroup(1, "Kierra", "Gentry", "29", "k@example.com", "2000", "Legal")))));
+        Assert.assertFalse(index.needsFullRead(result(true, 3, List.of())));
+        Assert.assertTrue(index.needsFullRead(result(false, 3, List.of())));
+        Assert.assertTrue(index.needsFullRead(result(false, 2, List.of(Fakes.rowGroup(2, "Kierra", "Gentry", "29", "k@example.com", "2000", "Legal")))));
+    }
+}
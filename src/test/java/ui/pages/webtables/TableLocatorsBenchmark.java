@@ -0,0 +1,128 @@
+package ui.pages.webtables;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import ui.core.server.LocalDemoQaServer;
+import ui.models.Employee;
+import ui.utils.SeleniumUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lookup latency of the Edit button of the last row of a 1,000-row table per locator strategy: the
+ * previous concatenated descendant-text XPath, the registry's positional XPath, its CSS + text script
+ * and a plain id. Reports the WebDriver round trip (median of findElements) and the in-browser cost.
+ * Runs against the local demoqa stand-in. Not part of the default surefire run: mvn test -Dtest=TableLocatorsBenchmark
+ */
+public class TableLocatorsBenchmark extends SeleniumUtils {
+    private static final int ROWS = 1000;
+    private static final int ROUND_TRIPS = 30;
+    private static final int IN_BROWSER = 200;
+
+    // Time one lookup strategy inside the page; arguments[0] is the strategy, arguments[1] its selector or name
+    private static final String IN_BROWSER_TIMING = """
+            var strategy = arguments[0], selector = arguments[1], runs = arguments[2], findRows = new Function(arguments[3]);
+            function lookup() {
+                if (strategy === 'id') return document.getElementById(selector);
+                if (strategy === 'script') return findRows(null, 'edit-record-', selector, null)[0];
+                return document.evaluate(selector, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;
+            }
+            var start = performance.now();
+            for (var i = 0; i < runs; i++) if (!lookup()) throw new Error('not found: ' + selector);
+            return (performance.now() - start) * 1000 / runs;
+            """;
+    private static final String SHOW_ALL_ROWS = """
+            var select = arguments[0];
+            select.add(new Option(arguments[1] + ' rows', arguments[1]));
+            select.value = String(arguments[1]);
+            select.dispatchEvent(new Event('change', { bubbles: true }));
+            """;
+
+    private String baseUrl;
+
+    @BeforeClass
+    public void startServer() {
+        baseUrl = LocalDemoQaServer.start(0, Duration.ZERO);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        LocalDemoQaServer.stop();
+    }
+
+    private static String legacyEditXPath(String firstName) {
+        return "//div[@role='row' and .//div[text()='" + firstName + "']]//span[starts-with(@id,'edit-record')]";
+    }
+
+    private double medianMillis(By locator) {
+        List<Long> nanos = new ArrayList<>();
+        for (int i = 0; i < ROUND_TRIPS; i++) {
+            long start = System.nanoTime();
+            Assert.assertEquals(getDriver().findElements(locator).size(), 1, locator.toString());
+            nanos.add(System.nanoTime() - start);
+        }
+        nanos.sort(null);
+        return nanos.get(nanos.size() / 2) / 1_000_000.0;
+    }
+
+    private double inBrowserMicros(String strategy, String selector) {
+        return ((Number) ((JavascriptExecutor) getDriver()).executeScript(
+                IN_BROWSER_TIMING, strategy, selector, IN_BROWSER, TableLocators.FIND_ROWS)).doubleValue();
+    }
+
+    @Test(description = "Edit button lookup on 1,000 rows: legacy XPath vs positional XPath vs CSS + text script vs id")
+    public void editLookup_perStrategy() {
+        EmployeeTablePage tablePage = new EmployeeTablePage(getDriver());
+        tablePage.openUrl(baseUrl + "/webtables");
+
+        List<Employee> employees = new ArrayList<>(testData().employees("Bench", ROWS - 5));
+        Employee target = testData().employee("Zed");
+        Employee quoted = Employee.builder().firstName("O'Brien").lastName("Say \"hi\"").email("obrien@example.com")
+                .age("40").salary("4000").department("Quotes").build();
+        employees.add(quoted);
+        employees.add(target);
+        Assert.assertEquals(tablePage.seed(employees).inserted(), ROWS - 3);
+
+        ((JavascriptExecutor) getDriver()).executeScript(SHOW_ALL_ROWS,
+                getDriver().findElement(By.cssSelector("select[aria-label='rows per page']")), ROWS);
+        Assert.assertEquals(tablePage.snapshot().dataRows().size(), ROWS);
+
+        String name = target.getFirstName();
+        WebElement expected = getDriver().findElement(TableLocators.action(TableLocators.Action.EDIT, name));
+        String id = expected.getAttribute("id");
+
+        Map<String, By> locators = new LinkedHashMap<>();
+        locators.put("legacy xpath", By.xpath(legacyEditXPath(name)));
+        locators.put("registry xpath", TableLocators.actionXPath(TableLocators.Action.EDIT, name));
+        locators.put("css + text script", TableLocators.action(TableLocators.Action.EDIT, name));
+        locators.put("id", By.id(id));
+        Map<String, String[]> inBrowser = Map.of(
+                "legacy xpath", new String[]{"xpath", legacyEditXPath(name)},
+                "registry xpath", new String[]{"xpath", ((By.Remotable) locators.get("registry xpath")).getRemoteParameters().value().toString()},
+                "css + text script", new String[]{"script", name},
+                "id", new String[]{"id", id});
+
+        System.out.printf("Edit button of the last of %d rows (%s):%n", ROWS, getDriver().getClass().getSimpleName());
+        locators.forEach((strategy, locator) -> {
+            Assert.assertEquals(getDriver().findElement(locator), expected, strategy);
+            String[] browser = inBrowser.get(strategy);
+            System.out.printf("  %-18s round trip %6.2f ms (median of %d), in browser %8.1f us%n",
+                    strategy, medianMillis(locator), ROUND_TRIPS, inBrowserMicros(browser[0], browser[1]));
+        });
+
+        // Quotes in names broke the concatenated XPath; the registry handles them in both forms
+        Assert.assertThrows(InvalidSelectorException.class, () -> getDriver().findElements(By.xpath(legacyEditXPath(quoted.getFirstName()))));
+        Assert.assertEquals(getDriver().findElements(TableLocators.actionXPath(TableLocators.Action.EDIT, quoted.getFirstName())).size(), 1);
+        Assert.assertTrue(tablePage.isUserPresent(quoted.getFirstName(), quoted.getLastName()));
+    }
+}
@@ -0,0 +1,92 @@
+package ui.pages.webtables;
+
+import org.openqa.selenium.By;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.NodeList;
+import ui.pages.common.ElementCache;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathFactory;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+public class TableLocatorsTests {
+    // Same structure as a react-table row group; names with both quote characters
+    private static final String TABLE = """
+            <div class="rt-tbody">
+              <div role="rowgroup"><div role="row">
+                <div role="gridcell">O'Brien</div><div role="gridcell">Say "hi"</div>
+                <div role="gridcell"><span id="edit-record-7"/><span id="delete-record-7"/></div>
+              </div></div>
+              <div role="rowgroup"><div role="row">
+                <div role="gridcell">Ann</div><div role="gridcell">O'Brien</div>
+                <div role="gridcell"><span id="edit-record-8"/><span id="delete-record-8"/></div>
+              </div></div>
+            </div>
+            """;
+
+    private static NodeList evaluate(By locator) throws Exception {
+        Document doc = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+                .parse(new ByteArrayInputStream(TABLE.getBytes(StandardCharsets.UTF_8)));
+        String xpath = String.valueOf(((By.Remotable) locator).getRemoteParameters().value());
+        return (NodeList) XPathFactory.newInstance().newXPath().evaluate(xpath, doc, XPathConstants.NODESET);
+    }
+
+    @Test(description = "Values are quoted with whichever quote they lack, or split with concat() when they hold both")
+    public void xpathLiteral_quotesAnyValue() {
+        Assert.assertEquals(TableLocators.xpathLiteral("Ann"), "'Ann'");
+        Assert.assertEquals(TableLocators.xpathLiteral("O'Brien"), "\"O'Brien\"");
+        Assert.assertEquals(TableLocators.xpathLiteral("O'B \"x\""), "concat('O', \"'\", 'B \"x\"')");
+        Assert.assertEquals(TableLocators.xpathLiteral("'\""), "concat('', \"'\", '\"')");
+    }
+
+    @Test(description = "Template placeholders may repeat and appear in any order; missing values fail")
+    public void template_formatsPlaceholders() {
+        TableLocators.Template template = TableLocators.Template.xpath("//a[@x={1} or @y={0} or @z={1}]");
+        Assert.assertEquals(template.format("a", "b"), "//a[@x='b' or @y='a' or @z='b']");
+        Assert.assertThrows(IllegalArgumentException.class, () -> template.format("a"));
+    }
+
+    @Test(description = "Generated XPath is valid and matches by cell position, including names with quotes")
+    public void xpath_matchesRowsWithQuotes() throws Exception {
+        NodeList rows = evaluate(TableLocators.rowXPath("O'Brien", "Say \"hi\""));
+        Assert.assertEquals(rows.getLength(), 1);
+
+        // Ann O'Brien has O'Brien as last name only, so a first-name lookup must not match her row
+        NodeList edit = evaluate(TableLocators.actionXPath(TableLocators.Action.EDIT, "O'Brien"));
+        Assert.assertEquals(edit.getLength(), 1);
+        Assert.assertEquals(edit.item(0).getAttributes().getNamedItem("id").getNodeValue(), "edit-record-7");
+
+        Assert.assertEquals(evaluate(TableLocators.actionXPath(TableLocators.Action.DELETE, "Nobody")).getLength(), 0);
+    }
+
+    @Test(description = "Id and scripted locators describe themselves for logs and the wait profile")
+    public void locators_describeThemselves() {
+        Assert.assertEquals(TableLocators.action(TableLocators.Action.DELETE, 7), By.id("delete-record-7"));
+        Assert.assertEquals(TableLocators.row("Ann", "Lee").toString(), "By.rowText: Ann Lee");
+        Assert.assertEquals(TableLocators.action(TableLocators.Action.EDIT, "Ann").toString(), "By.rowText: edit of Ann");
+        Assert.assertEquals(TableLocators.row("Ann", "Lee"), TableLocators.row("Ann", "Lee"));
+    }
+
+    @Test(description = "Descriptions, and so locator equality, do not depend on the default locale")
+    public void locators_describeThemselvesInAnyLocale() {
+        Locale original = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            Assert.assertEquals(TableLocators.action(TableLocators.Action.EDIT, "Ann").toString(), "By.rowText: edit of Ann");
+        } finally {
+            Locale.setDefault(original);
+        }
+    }
+
+    @Test(description = "Row text locators stay out of the element cache, record id locators do not")
+    public void rowTextLocators_areNotCacheable() {
+        Assert.assertFalse(ElementCache.cacheable(TableLocators.row("Ann", "Lee")));
+        Assert.assertFalse(ElementCache.cacheable(TableLocators.action(TableLocators.Action.EDIT, "Ann")));
+        Assert.assertTrue(ElementCache.cacheable(TableLocators.action(TableLocators.Action.EDIT, 7)));
+    }
+}
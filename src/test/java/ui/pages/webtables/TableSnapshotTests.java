@@ -0,0 +1,40 @@
+package ui.pages.webtables;
+
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import ui.testing.Fakes;
+
+import java.util.List;
+
+public class TableSnapshotTests {
+
+    @Test(description = "executeScript rows are mapped to the table columns, padding rows are kept but flagged")
+    public void from_mapsColumnsAndPadding() {
+        WebElement cierra = Fakes.element("group-1");
+        WebElement edit = Fakes.element("edit-record-1");
+        TableSnapshot snapshot = TableSnapshot.from(List.of(
+                Fakes.rowGroup(cierra, edit, Fakes.element("delete-record-1"), "Cierra", "Vega", "39", "cierra@example.com", "10000", "Insurance", ""),
+                Fakes.rowGroup(Fakes.element("group-2"), null, null, "", "", "", "", "", "", "")));
+
+        Assert.assertEquals(snapshot.size(), 2);
+        Assert.assertEquals(snapshot.dataRows().size(), 1);
+        Assert.assertTrue(snapshot.rows().get(1).isPadding());
+
+        TableSnapshot.Row row = snapshot.find("Cierra", "Vega").orElseThrow();
+        Assert.assertEquals(row.index(), 0);
+        Assert.assertEquals(row.data().keySet().stream().toList(), TableSnapshot.COLUMNS);
+        Assert.assertEquals(row.get("Email"), "cierra@example.com");
+        Assert.assertSame(row.edit(), edit);
+        Assert.assertSame(snapshot.find(cierra).orElseThrow(), row);
+    }
+
+    @Test(description = "Missing cells read as empty strings, unknown names are not found")
+    public void from_shortRowsAndMisses() {
+        TableSnapshot snapshot = TableSnapshot.from(List.of(Fakes.rowGroup(Fakes.element("group-1"), null, null, "Alden", "Cantrell")));
+
+        Assert.assertEquals(snapshot.rows().get(0).get("Department"), "");
+        Assert.assertTrue(snapshot.find("Kierra", "Gentry").isEmpty());
+        Assert.assertEquals(TableSnapshot.from(null).size(), 0);
+    }
+}
@@ -0,0 +1,60 @@
+package ui.testing;
+
+import org.openqa.selenium.WebElement;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Test doubles for the offline tests: interface proxies standing in for WebDriver objects, and maps
+ * shaped like the results executeScript returns for the page scripts.
+ */
+public final class Fakes {
+
+    /** Answers a call on a fake; null is the answer for void methods and unset values */
+    @FunctionalInterface
+    public interface Answer {
+        Object answer(Object proxy, Method method, Object[] args) throws Throwable;
+    }
+
+    private Fakes() { }
+
+    /**
+     * Proxy implementing the interfaces. equals is identity and hashCode/toString use the name, so fakes
+     * work as map keys and read well in assertion messages; every other call goes to the answer.
+     */
+    public static Object proxy(String name, Answer answer, Class<?>... types) {
+        return Proxy.newProxyInstance(Fakes.class.getClassLoader(), types, (proxy, method, args) -> switch (method.getName()) {
+            case "equals" -> method.getParameterCount() == 1 ? proxy == args[0] : answer.answer(proxy, method, args);
+            case "hashCode" -> method.getParameterCount() == 0 ? name.hashCode() : answer.answer(proxy, method, args);
+            case "toString" -> method.getParameterCount() == 0 ? name : answer.answer(proxy, method, args);
+            default -> answer.answer(proxy, method, args);
+        });
+    }
+
+    /** WebElement that only has an identity; every WebElement method returns null */
+    public static WebElement element(String name) {
+        return (WebElement) proxy(name, (proxy, method, args) -> null, WebElement.class);
+    }
+
+    /** Mutable map of alternating keys and values; values may be null, as in executeScript results */
+    public static Map<String, Object> map(Object... keysAndValues) {
+        if (keysAndValues.length % 2 != 0) throw new IllegalArgumentException("Keys and values must come in pairs");
+        Map<String, Object> map = new HashMap<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) map.put((String) keysAndValues[i], keysAndValues[i + 1]);
+        return map;
+    }
+
+    /** A row group as read by TableSnapshot.READ_GROUP */
+    public static Map<String, Object> rowGroup(WebElement group, WebElement edit, WebElement delete, String... cells) {
+        return map("element", group, "cells", Arrays.asList(cells), "edit", edit, "delete", delete);
+    }
+
+    /** A row of a TableIndex refresh: the READ_GROUP result plus its position, elements left out */
+    public static Map<String, Object> rowGroup(int index, String... cells) {
+        return map("index", index, "cells", Arrays.asList(cells));
+    }
+}
@@ -6,6 +6,7 @@ import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 import ui.core.config.SeleniumConfig;
 import ui.pages.uploaddownload.UploadDownloadPage;
+import ui.utils.DownloadWatcher;
 import ui.utils.FileHelper;
 import ui.utils.SeleniumUtils;
 import java.io.IOException;
@@ -16,41 +17,39 @@ import java.time.Duration;
 import java.util.Map;
 
 public class UploadDownloadTests extends SeleniumUtils {
-    private UploadDownloadPage page;
-    private Path downloadDir;
-    private SeleniumConfig config = SeleniumConfig.getInstance();
+    private final SeleniumConfig config = SeleniumConfig.getInstance();
 
-    private void preconditions() throws IOException {
-        page = new UploadDownloadPage(driver);
+    // Page object is local to each test so methods can run in parallel on one class instance
+    private UploadDownloadPage preconditions() {
+        UploadDownloadPage page = new UploadDownloadPage(getDriver());
         page.openUrl(config.getEnvironmentURL() + "/upload-download");
         page.waitUntilReady();
-        downloadDir = config.getDownloadDir();
+        return page;
     }
 
     @Test(description = "Download anchor should save a file to disk and checksum must match expected")
     public void downloadFile_success_andVerifyChecksum() throws Exception {
-        preconditions();
+        UploadDownloadPage page = preconditions();
+        Path downloadDir = getDownloadDir();
 
         // If you know expected filename and checksum in advance, set them here.
         // From the HTML fragment download attribute is "sampleFile.jpeg"
         String expectedFilename = "sampleFile.jpeg";
-        String expectedFileChecksum = "04ec95ca2b997689dcc4d66c05063d1d3f2ef2a10b8b1f153c9db4bcde823852";
+        // The local stand-in (localServer=true) serves its own fixture image
+        String expectedFileChecksum = config.getLocalServer()
+                ? "bfe667206ab97abd8def5d0db33c2531c0e959dd51e7c1428bc103f607ff3a2b"
+                : "04ec95ca2b997689dcc4d66c05063d1d3f2ef2a10b8b1f153c9db4bcde823852";
 
         // If you have a reference checksum (for demo we will not have it), compute it here.
         // For demo purposes we'll verify that the file appears and has non-zero size.
-        page.clickDownload();
-
-        Path downloaded = FileHelper.waitForFile(downloadDir, expectedFilename, Duration.ofSeconds(10));
-        Assert.assertNotNull(downloaded, "Downloaded file should appear in download folder within timeout");
-
-        // Wait until file is not empty
-        int attempts = 0;
-        while (java.nio.file.Files.size(downloaded) == 0 && attempts < 10) {
-            Thread.sleep(500);
-            attempts++;
+        // Watch before clicking; the watcher returns once the browser has finished writing the file
+        Path downloaded;
+        try (DownloadWatcher downloads = DownloadWatcher.watch(downloadDir)) {
+            page.clickDownload();
+            downloaded = downloads.await(expectedFilename, Duration.ofSeconds(10));
         }
 
-        long size = java.nio.file.Files.size(downloaded);
+        long size = Files.size(downloaded);
         Assert.assertTrue(size > 0, "Downloaded file should not be empty on the path: " + downloaded.toString());
 
         // Optional: compute checksum for integrity
@@ -65,7 +64,8 @@ public class UploadDownloadTests extends SeleniumUtils {
 
     @Test(description = "Upload small text file should be accepted by input element and the UI should reflect filename")
     public void uploadFile_success() throws Exception {
-        preconditions();
+        UploadDownloadPage page = preconditions();
+        Path downloadDir = getDownloadDir();
 
         // Create a small temporary file to upload
         Path tmp = FileHelper.createTempFileWithSize(downloadDir, "upload-test.txt", 1024);
@@ -79,7 +79,8 @@ public class UploadDownloadTests extends SeleniumUtils {
 
     @Test(description = "Upload with invalid path should result in WebDriver exception (negative)")
     public void upload_invalidPath_throws() throws IOException {
-        preconditions();
+        UploadDownloadPage page = preconditions();
+        Path downloadDir = getDownloadDir();
 
         String invalidPath = downloadDir.resolve("does-not-exist-12345.bin").toAbsolutePath().toString();
         boolean threw = false;
@@ -95,7 +96,8 @@ public class UploadDownloadTests extends SeleniumUtils {
 
     @Test(description = "Download + upload roundtrip: download file then re-upload it and verify name")
     public void download_thenUpload_roundtrip() throws Exception {
-        preconditions();
+        UploadDownloadPage page = preconditions();
+        Path downloadDir = getDownloadDir();
 
         String expectedFilename = "sampleFile.jpeg";
         page.clickDownload();
@@ -111,7 +113,8 @@ public class UploadDownloadTests extends SeleniumUtils {
 
     @Test(description = "Large file upload behavior (creates a 10MB file then uploads) - observe performance/timeout")
     public void upload_largeFile_behavior() throws Exception {
-        preconditions();
+        UploadDownloadPage page = preconditions();
+        Path downloadDir = getDownloadDir();
 
         // Create ~10MB file
         Path large = FileHelper.createTempFileWithSize(downloadDir, "large-upload.bin", 10 * 1024 * 1024);
@@ -0,0 +1,92 @@
+package ui.utils;
+
+import org.openqa.selenium.TimeoutException;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public class DownloadWatcherTests {
+    private static final Duration STABLE = Duration.ofMillis(100);
+    private Path dir;
+
+    @BeforeMethod
+    public void createDir() throws Exception {
+        dir = Files.createTempDirectory("downloads");
+    }
+
+    private static CompletableFuture<Void> later(long delayMs, ThrowingRunnable action) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                Thread.sleep(delayMs);
+                action.run();
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+
+    @Test(description = "A Chrome-style download is returned after its rename, never as the .crdownload file")
+    public void crdownload_returnedAfterRename() throws Exception {
+        Path temp = dir.resolve("report.pdf.crdownload");
+        try (DownloadWatcher watcher = DownloadWatcher.watch(dir, STABLE)) {
+            CompletableFuture<Void> browser = later(50, () -> Files.write(temp, new byte[1024]))
+                    .thenCompose(v -> later(300, () -> Files.move(temp, dir.resolve("report.pdf"), StandardCopyOption.ATOMIC_MOVE)));
+            long start = System.nanoTime();
+            Path file = watcher.await("report.pdf", Duration.ofSeconds(5));
+            long elapsed = Duration.ofNanos(System.nanoTime() - start).toMillis();
+            browser.join();
+
+            Assert.assertEquals(file, dir.resolve("report.pdf"));
+            Assert.assertEquals(Files.size(file), 1024);
+            Assert.assertTrue(elapsed >= 350, "Must not return before the rename: " + elapsed + " ms");
+            Assert.assertTrue(elapsed < 1500, "Should return shortly after the stable window: " + elapsed + " ms");
+        }
+    }
+
+    @Test(description = "A Firefox-style empty placeholder is not complete while its .part sibling exists")
+    public void part_placeholderIgnoredUntilDone() throws Exception {
+        Path file = Files.createFile(dir.resolve("data.csv"));
+        Path part = Files.write(dir.resolve("data.csv.part"), new byte[10]);
+        try (DownloadWatcher watcher = DownloadWatcher.watch(dir, STABLE)) {
+            CompletableFuture<Void> browser = later(400, () -> Files.move(part, file, StandardCopyOption.REPLACE_EXISTING));
+            Path done = watcher.await("data.csv", Duration.ofSeconds(5));
+            browser.join();
+            Assert.assertEquals(Files.size(done), 10);
+        }
+    }
+
+    @Test(description = "Several downloads are awaited at once; missing ones are named in the timeout")
+    public void awaitAll_andTimeout() throws Exception {
+        Files.write(dir.resolve("a.txt"), new byte[]{1});
+        try (DownloadWatcher watcher = DownloadWatcher.watch(dir, STABLE)) {
+            later(100, () -> Files.write(dir.resolve("b (1).txt"), new byte[]{2}));
+            Map<String, Path> files = watcher.awaitAll(List.of("b.txt", "a.txt"), Duration.ofSeconds(5));
+            Assert.assertEquals(List.copyOf(files.keySet()), List.of("b.txt", "a.txt"));
+            Assert.assertEquals(files.get("b.txt"), dir.resolve("b (1).txt"));
+
+            TimeoutException e = Assert.expectThrows(TimeoutException.class,
+                    () -> watcher.awaitAll(List.of("a.txt", "c.txt"), Duration.ofMillis(200)));
+            Assert.assertTrue(e.getMessage().contains("[c.txt]"), e.getMessage());
+        }
+    }
+
+    @Test(description = "Only the exact name or the browser's numbered variant matches, never temp files or prefixes")
+    public void matchName_isStrict() {
+        Assert.assertEquals(DownloadWatcher.matchName(List.of("sampleFile(2).jpeg"), "sampleFile.jpeg"), "sampleFile(2).jpeg");
+        Assert.assertNull(DownloadWatcher.matchName(List.of("sampleFile.jpeg.crdownload", "sampleFileOld.jpeg"), "sampleFile.jpeg"));
+        Assert.assertTrue(DownloadWatcher.isTemp("x.PART"));
+        Assert.assertFalse(DownloadWatcher.isTemp("x.jpeg"));
+    }
+}
@@ -1,28 +1,31 @@
 package ui.webtables;
 
+import org.openqa.selenium.By;
 import ui.core.config.SeleniumConfig;
+import ui.core.wait.Poller;
 import ui.utils.SeleniumUtils;
 import ui.pages.webtables.EmployeeTablePage;
 import ui.pages.webtables.RegistrationModalPage;
 import org.testng.annotations.Test;
 import org.testng.Assert;
 import ui.models.Employee;
+import java.time.Duration;
 import java.util.Map;
 
 public class EmployeeModalTests extends SeleniumUtils {
-    private SeleniumConfig config = SeleniumConfig.getInstance();
-    private EmployeeTablePage tablePage;
-    private RegistrationModalPage modalPage;
+    private final SeleniumConfig config = SeleniumConfig.getInstance();
 
-    private void openEmployeeTable() {
-        tablePage = new EmployeeTablePage(driver);
-        modalPage = new RegistrationModalPage(driver);
+    // Page objects are local to each test so methods can run in parallel on one class instance
+    private EmployeeTablePage openEmployeeTable() {
+        EmployeeTablePage tablePage = new EmployeeTablePage(getDriver());
         tablePage.openUrl(config.getEnvironmentURL() + "/webtables");
+        return tablePage;
     }
 
     @Test(description = "Open Add modal and verify fields and placeholders")
     public void openAddModal_fieldsPresenceAndPlaceholders() {
-        openEmployeeTable();
+        EmployeeTablePage tablePage = openEmployeeTable();
+        RegistrationModalPage modalPage = new RegistrationModalPage(getDriver());
 
         tablePage.clickAddNew();
         modalPage.waitForVisible();
@@ -42,7 +45,8 @@ public class EmployeeModalTests extends SeleniumUtils {
 
     @Test(description = "Submit empty form and verify HTML5 validation messages", dependsOnMethods = "openAddModal_fieldsPresenceAndPlaceholders")
     public void validation_onEmptySubmit() {
-        openEmployeeTable();
+        EmployeeTablePage tablePage = openEmployeeTable();
+        RegistrationModalPage modalPage = new RegistrationModalPage(getDriver());
 
         tablePage.clickAddNew();
         modalPage.waitForVisible();
@@ -50,12 +54,13 @@ public class EmployeeModalTests extends SeleniumUtils {
         // Submit empty form
         modalPage.submit();
 
-        // Expect validation messages on required fields (HTML5)
-        String fnMsg = modalPage.firstNameValidationMessage();
-        String emMsg = modalPage.emailValidationMessage();
-        String ageMsg = modalPage.ageValidationMessage();
-        String salaryMsg = modalPage.salaryValidationMessage();
-        String deptMsg = modalPage.departmentValidationMessage();
+        // Expect validation messages on required fields (HTML5), all read by one script
+        Map<By, String> messages = modalPage.validationMessages();
+        String fnMsg = messages.get(modalPage.firstNameInput);
+        String emMsg = messages.get(modalPage.emailInput);
+        String ageMsg = messages.get(modalPage.ageInput);
+        String salaryMsg = messages.get(modalPage.salaryInput);
+        String deptMsg = messages.get(modalPage.departmentInput);
 
         Assert.assertFalse(fnMsg.isEmpty(), "First Name should have validation message when empty");
         Assert.assertFalse(emMsg.isEmpty(), "Email should have validation message when empty");
@@ -68,7 +73,8 @@ public class EmployeeModalTests extends SeleniumUtils {
 
     @Test(description = "Invalid email / non-digit age/salary should fail HTML5 validation", dependsOnMethods = "validation_onEmptySubmit")
     public void invalidInputs_validation() {
-        openEmployeeTable();
+        EmployeeTablePage tablePage = openEmployeeTable();
+        RegistrationModalPage modalPage = new RegistrationModalPage(getDriver());
 
         tablePage.clickAddNew();
         modalPage.waitForVisible();
@@ -83,9 +89,10 @@ public class EmployeeModalTests extends SeleniumUtils {
         modalPage.submit();
 
         // Check that email/age/salary are invalid
-        String emMsg = modalPage.emailValidationMessage();
-        String ageMsg = modalPage.ageValidationMessage();
-        String salaryMsg = modalPage.salaryValidationMessage();
+        Map<By, String> messages = modalPage.validationMessages();
+        String emMsg = messages.get(modalPage.emailInput);
+        String ageMsg = messages.get(modalPage.ageInput);
+        String salaryMsg = messages.get(modalPage.salaryInput);
 
         Assert.assertFalse(emMsg.isEmpty(), "Email should be invalid for 'invalid-email'");
         Assert.assertFalse(ageMsg.isEmpty(), "Age should be invalid for 'abc'");
@@ -96,9 +103,10 @@ public class EmployeeModalTests extends SeleniumUtils {
 
     @Test(description = "Create a new employee then verify it appears in the table", dependsOnMethods = "invalidInputs_validation")
     public void createNewEmployee_success() {
-        openEmployeeTable();
+        EmployeeTablePage tablePage = openEmployeeTable();
+        RegistrationModalPage modalPage = new RegistrationModalPage(getDriver());
 
-        String unique = String.valueOf(System.currentTimeMillis()).substring(7);
+        String unique = testData().uniqueId();
         Employee emp = Employee.builder()
                 .firstName("Auto" + unique)
                 .lastName("User" + unique)
@@ -127,7 +135,8 @@ public class EmployeeModalTests extends SeleniumUtils {
 
     @Test(description = "Edit existing employee and verify updates", dependsOnMethods = "createNewEmployee_success")
     public void editEmployee_success() {
-        openEmployeeTable();
+        EmployeeTablePage tablePage = openEmployeeTable();
+        RegistrationModalPage modalPage = new RegistrationModalPage(getDriver());
 
         // Find first row and edit it (assume test create added at least one row)
         var rows = tablePage.getRows();
@@ -158,7 +167,7 @@ public class EmployeeModalTests extends SeleniumUtils {
 
     @Test(description = "Delete employee and verify removal", dependsOnMethods = "editEmployee_success")
     public void deleteEmployee_success() {
-        openEmployeeTable();
+        EmployeeTablePage tablePage = openEmployeeTable();
 
         var rows = tablePage.getRows();
         if (rows.isEmpty()) {
@@ -173,10 +182,10 @@ public class EmployeeModalTests extends SeleniumUtils {
 
         tablePage.clickDeleteByName(first, last);
 
-        // Small wait to allow table refresh
-        try { Thread.sleep(500); } catch (InterruptedException ignored) {}
-
-        var after = tablePage.findRowByFirstAndLastName(first, last);
-        Assert.assertNull(after, "Row should be removed after delete");
+        // Poll until the table refresh removed the row
+        boolean removed = Poller.defaults().withTimeout(Duration.ofSeconds(3))
+                .poll("row removed: " + first + " " + last, () -> tablePage.findRowByFirstAndLastName(first, last) == null)
+                .isPresent();
+        Assert.assertTrue(removed, "Row should be removed after delete");
     }
 }
@@ -1,74 +1,61 @@
 package ui.webtables;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
 import ui.utils.SeleniumUtils;
 import org.testng.annotations.Test;
 import ui.pages.webtables.EmployeeTablePage;
 import ui.pages.webtables.RegistrationModalPage;
+import ui.pages.webtables.SeedResult;
 import ui.core.config.SeleniumConfig;
+import ui.core.wait.Poller;
 import org.testng.Assert;
 import ui.models.Employee;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.UUID;
 
 public class EmployeeTableTests extends SeleniumUtils {
-    private SeleniumConfig config = SeleniumConfig.getInstance();
-    private EmployeeTablePage tablePage;
-    private RegistrationModalPage modalPage;
+    private final SeleniumConfig config = SeleniumConfig.getInstance();
 
-    private void openEmployeeTable() {
-        tablePage = new EmployeeTablePage(driver);
-        modalPage = new RegistrationModalPage(driver);
+    // Page objects are local to each test so methods can run in parallel on one class instance
+    private EmployeeTablePage openEmployeeTable() {
+        EmployeeTablePage tablePage = new EmployeeTablePage(getDriver());
         tablePage.openUrl(config.getEnvironmentURL() + "/webtables");
+        return tablePage;
+    }
+
+    // Row lookups re-read the table, so polling them picks up late re-renders
+    private static boolean rowAppears(EmployeeTablePage tablePage, Employee emp, Duration timeout) {
+        return Poller.defaults().withTimeout(timeout).ignoring(StaleElementReferenceException.class)
+                .poll("row: " + emp.getFirstName() + " " + emp.getLastName(),
+                        () -> tablePage.findRowByFirstAndLastName(emp.getFirstName(), emp.getLastName()))
+                .isPresent();
     }
     @Test(description = "Insert multiple records and verify pagination updates accordingly (independent)")
     public void bulkInsertAndPaginationCheck() {
-        openEmployeeTable();
+        EmployeeTablePage tablePage = openEmployeeTable();
 
         final int toInsert = 12; // broj insertovanih zapisa (možeš prilagoditi)
         final int pageSize = 5;
         List<Employee> created = new ArrayList<>();
 
         for (int i = 0; i < toInsert; i++) {
-            String unique = String.valueOf(System.currentTimeMillis()).substring(7) + i;
-            Employee emp = Employee.builder()
+            String unique = testData().uniqueId();
+            created.add(Employee.builder()
                     .firstName("PagF" + unique)
                     .lastName("PagL" + unique)
                     .email("pag" + unique + "@example.com")
                     .age(String.valueOf(20 + (i % 10)))
                     .salary(String.valueOf(1000 + i * 10))
                     .department("PagDept")
-                    .build();
-
-            tablePage.clickAddNew();
-            modalPage.waitForVisible();
-            modalPage.fillForm(emp.getFirstName(), emp.getLastName(), emp.getEmail(), emp.getAge(), emp.getSalary(), emp.getDepartment());
-            modalPage.submit();
-            modalPage.waitForNotVisible();
-
-            // Poll for presence using the search box (search ignores pagination)
-            boolean present = false;
-            long end = System.currentTimeMillis() + 5000;
-            while (System.currentTimeMillis() < end) {
-                try {
-                    tablePage.clearSearch();
-                    tablePage.search(emp.getFirstName());
-                    if (tablePage.findRowByFirstAndLastName(emp.getFirstName(), emp.getLastName()) != null) {
-                        present = true;
-                        break;
-                    }
-                } catch (Exception ignored) {
-                } finally {
-                    tablePage.clearSearch();
-                }
-                try { Thread.sleep(200); } catch (InterruptedException ignored) {}
-            }
-            Assert.assertTrue(present, "Inserted record should appear in table (search across pages)");
-            created.add(emp);
+                    .build());
         }
 
+        // Insert through the page's own form in one batch; pagination is what this test is about
+        SeedResult seeded = tablePage.seed(created);
+        Assert.assertEquals(seeded.inserted(), toInsert, "Every record should be accepted by the form");
+
         // Set rows per page and check number of visible rows
         tablePage.setRowsPerPage(pageSize);
         int visible = tablePage.getVisibleRowCount();
@@ -78,50 +65,23 @@ public class EmployeeTableTests extends SeleniumUtils {
         int expectedPages = (int) Math.ceil((double) toInsert / pageSize);
         Assert.assertTrue(totalPages >= expectedPages, "Total pages should be at least: " + expectedPages + ", but was: " + totalPages);
 
-        // Search for last created entity through all pages
+        // Search for last created entity through all pages; pages are opened only until it is found
         Employee last = created.get(created.size() - 1);
-        boolean found = false;
-        for (int p = 1; p <= totalPages; p++) {
-            tablePage.goToPage(p);
-            // Poll for row on page
-            long end = System.currentTimeMillis() + 3000;
-            while (System.currentTimeMillis() < end) {
-                var row = tablePage.findRowByFirstAndLastName(last.getFirstName(), last.getLastName());
-                if (row != null) {
-                    found = true;
-                    Map<String, String> data = tablePage.getRowData(row);
-                    Assert.assertEquals(data.get("Email"), last.getEmail());
-                    break;
-                }
-                try { Thread.sleep(200); } catch (InterruptedException ignored) {}
-            }
-            if (found) break;
-        }
+        var match = tablePage.streamRows()
+                .filter(r -> last.getFirstName().equals(r.get("First Name")) && last.getLastName().equals(r.get("Last Name")))
+                .findFirst();
+        boolean found = match.isPresent();
+        match.ifPresent(r -> Assert.assertEquals(r.get("Email"), last.getEmail()));
         Assert.assertTrue(found, "Last created record should be found across pagination pages");
     }
 
     @Test(description = "Change rows per page and verify visible row count and navigation (independent)")
     public void changePageSizeAndNavigate() {
         // Precondition: insert a few records so pagination can be changed meaningfully
-        openEmployeeTable();
-
-        for (int i = 0; i < 21; i++) {
-            String unique = String.valueOf(System.currentTimeMillis()).substring(7) + i;
-            Employee emp = Employee.builder()
-                    .firstName("PS" + unique)
-                    .lastName("PSL" + unique)
-                    .email("ps" + unique + "@example.com")
-                    .age("29")
-                    .salary("2000")
-                    .department("PSDept")
-                    .build();
-
-            tablePage.clickAddNew();
-            modalPage.waitForVisible();
-            modalPage.fillForm(emp.getFirstName(), emp.getLastName(), emp.getEmail(), emp.getAge(), emp.getSalary(), emp.getDepartment());
-            modalPage.submit();
-            modalPage.waitForNotVisible();
-        }
+        EmployeeTablePage tablePage = openEmployeeTable();
+
+        List<Employee> employees = testData().employees("PS", 21);
+        Assert.assertEquals(tablePage.seed(employees).inserted(), 21);
 
         // Test multiple page sizes
         int[] sizes = new int[]{5, 10, 20, 25, 50, 100};
@@ -143,10 +103,11 @@ public class EmployeeTableTests extends SeleniumUtils {
 
     @Test(description = "Search filter should narrow results to matching entries (independent)")
     public void searchBox_filtering() {
-        openEmployeeTable();
+        EmployeeTablePage tablePage = openEmployeeTable();
+        RegistrationModalPage modalPage = new RegistrationModalPage(getDriver());
 
         // Create one unique record to search for
-        String unique = String.valueOf(System.currentTimeMillis()).substring(7);
+        String unique = testData().uniqueId();
         Employee emp = Employee.builder()
                 .firstName("SearchF" + unique)
                 .lastName("SearchL" + unique)
@@ -167,20 +128,7 @@ public class EmployeeTableTests extends SeleniumUtils {
         tablePage.search(emp.getFirstName());
 
         // After search, poll for the row
-        boolean found = false;
-        long end = System.currentTimeMillis() + 3000;
-        while (System.currentTimeMillis() < end) {
-            var rows = tablePage.getRows();
-            for (var rg : rows) {
-                var rowData = tablePage.getRowData(rg);
-                if (emp.getFirstName().equals(rowData.get("First Name")) && emp.getLastName().equals(rowData.get("Last Name"))) {
-                    found = true;
-                    break;
-                }
-            }
-            if (found) break;
-            try { Thread.sleep(200); } catch (InterruptedException ignored) {}
-        }
+        boolean found = rowAppears(tablePage, emp, Duration.ofSeconds(3));
         Assert.assertTrue(found, "Search should return the created record");
         // Cleanup search
         tablePage.clearSearch();
@@ -188,9 +136,9 @@ public class EmployeeTableTests extends SeleniumUtils {
 
     @Test(description = "Search for non-existent value should return no meaningful rows")
     public void searchNonExisting_returnsNoRows() {
-        openEmployeeTable();
+        EmployeeTablePage tablePage = openEmployeeTable();
 
-        String random = "no-such-user-" + UUID.randomUUID().toString().substring(0, 6);
+        String random = "no-such-user-" + testData().uniqueId();
         tablePage.clearSearch();
         tablePage.search(random);
 
@@ -215,7 +163,8 @@ public class EmployeeTableTests extends SeleniumUtils {
 
     @Test(description = "Maxlength enforcement on First Name input (client-side)")
     public void firstName_maxlengthEnforced() {
-        openEmployeeTable();
+        EmployeeTablePage tablePage = openEmployeeTable();
+        RegistrationModalPage modalPage = new RegistrationModalPage(getDriver());
 
         tablePage.clickAddNew();
         modalPage.waitForVisible();
@@ -231,10 +180,11 @@ public class EmployeeTableTests extends SeleniumUtils {
 
     @Test(description = "Search box filters out non-matching rows (case-insensitive check)")
     public void searchBox_caseInsensitive() {
-        openEmployeeTable();
+        EmployeeTablePage tablePage = openEmployeeTable();
+        RegistrationModalPage modalPage = new RegistrationModalPage(getDriver());
 
         // Create a specific record with mixed-case first name
-        String unique = "Case" + System.currentTimeMillis();
+        String unique = "Case" + testData().uniqueId();
         Employee emp = Employee.builder()
                 .firstName(unique)
                 .lastName("Tester")
@@ -255,13 +205,7 @@ public class EmployeeTableTests extends SeleniumUtils {
         tablePage.search(unique.toLowerCase());
 
         // Poll for presence (short)
-        boolean found = false;
-        long end = System.currentTimeMillis() + 3000;
-        while (System.currentTimeMillis() < end) {
-            var row = tablePage.findRowByFirstAndLastName(emp.getFirstName(), emp.getLastName());
-            if (row != null) { found = true; break; }
-            try { Thread.sleep(200); } catch (InterruptedException ignored) {}
-        }
+        boolean found = rowAppears(tablePage, emp, Duration.ofSeconds(3));
 
         Assert.assertTrue(found, "Search should be case-insensitive and find the record");
         tablePage.clearSearch();
@@ -269,10 +213,11 @@ public class EmployeeTableTests extends SeleniumUtils {
 
     @Test(description = "Pagination boundary: go to page 0 or beyond total and expect sanitized behavior")
     public void pagination_boundaries() {
-        openEmployeeTable();
+        EmployeeTablePage tablePage = openEmployeeTable();
+        RegistrationModalPage modalPage = new RegistrationModalPage(getDriver());
 
         // Ensure there is at least one record so pagination UI is present
-        String unique = "PB" + System.currentTimeMillis();
+        String unique = "PB" + testData().uniqueId();
         Employee emp = Employee.builder()
                 .firstName(unique)
                 .lastName("PBLast")
@@ -301,10 +246,11 @@ public class EmployeeTableTests extends SeleniumUtils {
 
     @Test(description = "Bug check: Add form must NOT be pre-filled after opening Edit modal and closing it")
     public void addForm_notPrefilledAfterEditClose() {
-        openEmployeeTable();
+        EmployeeTablePage tablePage = openEmployeeTable();
+        RegistrationModalPage modalPage = new RegistrationModalPage(getDriver());
 
         // Create a record to edit
-        String unique = "Bug" + System.currentTimeMillis();
+        String unique = "Bug" + testData().uniqueId();
         Employee emp = Employee.builder()
                 .firstName(unique)
                 .lastName("BugLast")
@@ -321,13 +267,7 @@ public class EmployeeTableTests extends SeleniumUtils {
         modalPage.waitForNotVisible();
 
         // Ensure created
-        boolean created = false;
-        long end = System.currentTimeMillis() + 5000;
-        while (System.currentTimeMillis() < end) {
-            var row = tablePage.findRowByFirstAndLastName(emp.getFirstName(), emp.getLastName());
-            if (row != null) { created = true; break; }
-            try { Thread.sleep(200); } catch (InterruptedException ignored) {}
-        }
+        boolean created = rowAppears(tablePage, emp, Duration.ofSeconds(5));
         Assert.assertTrue(created, "Precondition failed: created row must exist");
 
         // Open Edit modal for that record